@@ -0,0 +1,71 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.response.attestation.statement.AttestationType;
+import com.webauthn4j.test.TestUtil;
+import com.webauthn4j.validator.RegistrationObject;
+import com.webauthn4j.validator.attestation.statement.AttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.androidkey.AndroidKeyAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.androidsafetynet.AndroidSafetyNetAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.packed.PackedAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.tpm.TPMAttestationStatementValidator;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the attestation statement verification stage of the registration ceremony, per attestation statement format.
+ * android-key, android-safetynet and tpm statements are real-device samples bound to fixed challenges and origins,
+ * so they are verified by {@link AttestationStatementValidator} directly instead of the whole registration validator.
+ */
+@State(Scope.Thread)
+public class AttestationStatementValidationBenchmark {
+
+    @Param({"packed", "android-key", "android-safetynet", "tpm"})
+    private String format;
+
+    private AttestationStatementValidator target;
+    private RegistrationObject registrationObject;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (format) {
+            case "packed":
+                target = new PackedAttestationStatementValidator();
+                registrationObject = TestUtil.createRegistrationObjectWithPackedAttestation();
+                break;
+            case "android-key":
+                target = new AndroidKeyAttestationStatementValidator();
+                registrationObject = TestUtil.createRegistrationObjectWithAndroidKeyAttestation();
+                break;
+            case "android-safetynet":
+                target = new AndroidSafetyNetAttestationStatementValidator();
+                registrationObject = TestUtil.createRegistrationObjectWithAndroidSafetyNetAttestation();
+                break;
+            case "tpm":
+                target = new TPMAttestationStatementValidator();
+                registrationObject = TestUtil.createRegistrationObjectWithTPMAttestation();
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+    }
+
+    @Benchmark
+    public AttestationType validate() {
+        return target.validate(registrationObject);
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.authenticator.Authenticator;
+import com.webauthn4j.authenticator.AuthenticatorImpl;
+import com.webauthn4j.converter.AttestationObjectConverter;
+import com.webauthn4j.converter.AuthenticatorDataConverter;
+import com.webauthn4j.converter.CollectedClientDataConverter;
+import com.webauthn4j.converter.util.CborConverter;
+import com.webauthn4j.converter.util.JsonConverter;
+import com.webauthn4j.request.*;
+import com.webauthn4j.request.extension.client.AuthenticationExtensionsClientInputs;
+import com.webauthn4j.request.extension.client.RegistrationExtensionClientInput;
+import com.webauthn4j.response.AuthenticatorAssertionResponse;
+import com.webauthn4j.response.AuthenticatorAttestationResponse;
+import com.webauthn4j.response.PublicKeyCredential;
+import com.webauthn4j.response.WebAuthnAuthenticationContext;
+import com.webauthn4j.response.attestation.AttestationObject;
+import com.webauthn4j.response.attestation.authenticator.*;
+import com.webauthn4j.response.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.response.attestation.statement.NoneAttestationStatement;
+import com.webauthn4j.response.client.ClientDataType;
+import com.webauthn4j.response.client.CollectedClientData;
+import com.webauthn4j.response.client.Origin;
+import com.webauthn4j.response.client.challenge.Challenge;
+import com.webauthn4j.response.client.challenge.DefaultChallenge;
+import com.webauthn4j.response.extension.client.AuthenticationExtensionClientOutput;
+import com.webauthn4j.response.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.server.RelyingPartyConfig;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.test.TestUtil;
+import com.webauthn4j.test.authenticator.model.WebAuthnModelAuthenticatorAdaptor;
+import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.util.ECUtil;
+import com.webauthn4j.util.KeyUtil;
+import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.util.SignatureUtil;
+import com.webauthn4j.util.exception.UnexpectedCheckedException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.KeyPair;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECParameterSpec;
+import java.util.Collections;
+
+import static com.webauthn4j.response.attestation.authenticator.AuthenticatorData.BIT_UP;
+import static com.webauthn4j.response.attestation.authenticator.AuthenticatorData.BIT_UV;
+
+/**
+ * Pre-computed authentication ceremony payload used by the benchmarks.
+ * The EC2 P-256 payload is produced end to end by {@link WebAuthnModelAuthenticatorAdaptor} through {@link ClientPlatform}.
+ * As the model authenticator supports ES256 only, other key types are signed with a freshly generated key pair.
+ */
+public class AuthenticationScenario {
+
+    static final String RP_ID = "example.com";
+    static final Origin ORIGIN = new Origin("https://example.com");
+    static final RelyingPartyConfig RELYING_PARTY_CONFIG = new RelyingPartyConfig(RP_ID, ORIGIN);
+
+    private final WebAuthnAuthenticationContext authenticationContext;
+    private final Authenticator authenticator;
+    private final long initialCounter;
+
+    private AuthenticationScenario(WebAuthnAuthenticationContext authenticationContext, Authenticator authenticator) {
+        this.authenticationContext = authenticationContext;
+        this.authenticator = authenticator;
+        this.initialCounter = authenticator.getCounter();
+    }
+
+    static AuthenticationScenario create(KeyType keyType) {
+        switch (keyType) {
+            case EC2_P256:
+                return createWithModelAuthenticator();
+            case EC2_P384:
+                return createWithKeyPair(KeyUtil.createECKeyPair(ECUtil.P_384_SPEC), COSEAlgorithmIdentifier.ES384);
+            case EC2_P521:
+                return createWithKeyPair(KeyUtil.createECKeyPair(ECUtil.P_521_SPEC), COSEAlgorithmIdentifier.ES512);
+            case RSA:
+                return createWithKeyPair(KeyUtil.createRSAKeyPair(), COSEAlgorithmIdentifier.RS256);
+            default:
+                throw new IllegalArgumentException("Unsupported key type: " + keyType);
+        }
+    }
+
+    private static AuthenticationScenario createWithModelAuthenticator() {
+        Challenge challenge = new DefaultChallenge();
+        WebAuthnModelAuthenticatorAdaptor webAuthnModelAuthenticatorAdaptor = new WebAuthnModelAuthenticatorAdaptor();
+        ClientPlatform clientPlatform = new ClientPlatform(ORIGIN, webAuthnModelAuthenticatorAdaptor);
+
+        // create
+        PublicKeyCredentialCreationOptions credentialCreationOptions = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(RP_ID, "example.com"),
+                new PublicKeyCredentialUserEntity(),
+                challenge,
+                Collections.singletonList(new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256)),
+                null,
+                Collections.emptyList(),
+                new AuthenticatorSelectionCriteria(AuthenticatorAttachment.CROSS_PLATFORM, true, UserVerificationRequirement.REQUIRED),
+                AttestationConveyancePreference.NONE,
+                new AuthenticationExtensionsClientInputs<RegistrationExtensionClientInput>()
+        );
+        PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> registrationCredential = clientPlatform.create(credentialCreationOptions);
+        AttestationObject attestationObject = new AttestationObjectConverter(new CborConverter())
+                .convert(registrationCredential.getAuthenticatorResponse().getAttestationObject());
+
+        // get
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                RP_ID,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        AuthenticatorAssertionResponse assertionResponse = credential.getAuthenticatorResponse();
+
+        WebAuthnAuthenticationContext authenticationContext = new WebAuthnAuthenticationContext(
+                credential.getRawId(),
+                assertionResponse.getClientDataJSON(),
+                assertionResponse.getAuthenticatorData(),
+                assertionResponse.getSignature(),
+                null,
+                new ServerProperty(RELYING_PARTY_CONFIG, challenge, null),
+                true,
+                Collections.emptyList()
+        );
+        return new AuthenticationScenario(authenticationContext, TestUtil.createAuthenticator(attestationObject));
+    }
+
+    private static AuthenticationScenario createWithKeyPair(KeyPair keyPair, COSEAlgorithmIdentifier algorithm) {
+        Challenge challenge = new DefaultChallenge();
+        CredentialPublicKey credentialPublicKey = createCredentialPublicKey(keyPair, algorithm);
+
+        CollectedClientData collectedClientData = new CollectedClientData(ClientDataType.GET, challenge, ORIGIN, null);
+        byte[] clientDataJSON = new CollectedClientDataConverter(new JsonConverter()).convertToBytes(collectedClientData);
+
+        byte[] rpIdHash = MessageDigestUtil.createSHA256().digest(RP_ID.getBytes(StandardCharsets.UTF_8));
+        AuthenticatorData<?> authenticatorData = new AuthenticatorData<>(rpIdHash, (byte) (BIT_UP | BIT_UV), 0);
+        byte[] authenticatorDataBytes = new AuthenticatorDataConverter(new CborConverter()).convert(authenticatorData);
+
+        byte[] clientDataHash = MessageDigestUtil.createSHA256().digest(clientDataJSON);
+        byte[] signedData = ByteBuffer.allocate(authenticatorDataBytes.length + clientDataHash.length).put(authenticatorDataBytes).put(clientDataHash).array();
+        byte[] signature = sign(keyPair, algorithm, signedData);
+
+        byte[] credentialId = new byte[32];
+        WebAuthnAuthenticationContext authenticationContext = new WebAuthnAuthenticationContext(
+                credentialId,
+                clientDataJSON,
+                authenticatorDataBytes,
+                signature,
+                null,
+                new ServerProperty(RELYING_PARTY_CONFIG, challenge, null),
+                true,
+                Collections.emptyList()
+        );
+        AttestedCredentialData attestedCredentialData = new AttestedCredentialData(AAGUID.ZERO, credentialId, credentialPublicKey);
+        Authenticator authenticator = new AuthenticatorImpl(attestedCredentialData, new NoneAttestationStatement(), 0);
+        return new AuthenticationScenario(authenticationContext, authenticator);
+    }
+
+    private static CredentialPublicKey createCredentialPublicKey(KeyPair keyPair, COSEAlgorithmIdentifier algorithm) {
+        if (keyPair.getPublic() instanceof RSAPublicKey) {
+            RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+            return new RSACredentialPublicKey(null, algorithm, null, null,
+                    publicKey.getModulus().toByteArray(), publicKey.getPublicExponent().toByteArray());
+        }
+        ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+        return new EC2CredentialPublicKey(null, algorithm, null, null,
+                getCurve(publicKey.getParams()),
+                publicKey.getW().getAffineX().toByteArray(),
+                publicKey.getW().getAffineY().toByteArray());
+    }
+
+    private static Curve getCurve(ECParameterSpec ecParameterSpec) {
+        int fieldSize = ecParameterSpec.getCurve().getField().getFieldSize();
+        switch (fieldSize) {
+            case 256:
+                return Curve.SECP256R1;
+            case 384:
+                return Curve.SECP384R1;
+            case 521:
+                return Curve.SECP521R1;
+            default:
+                throw new IllegalArgumentException("Unsupported field size: " + fieldSize);
+        }
+    }
+
+    private static byte[] sign(KeyPair keyPair, COSEAlgorithmIdentifier algorithm, byte[] signedData) {
+        try {
+            Signature signature = SignatureUtil.createSignature(algorithm.getJcaName());
+            signature.initSign(keyPair.getPrivate());
+            signature.update(signedData);
+            return signature.sign();
+        } catch (InvalidKeyException | SignatureException e) {
+            throw new UnexpectedCheckedException(e);
+        }
+    }
+
+    WebAuthnAuthenticationContext getAuthenticationContext() {
+        return authenticationContext;
+    }
+
+    Authenticator getAuthenticator() {
+        return authenticator;
+    }
+
+    /**
+     * Rewinds the stored signature counter so that the same assertion can be validated repeatedly
+     */
+    void resetCounter() {
+        authenticator.setCounter(initialCounter);
+    }
+
+    public enum KeyType {
+        EC2_P256,
+        EC2_P384,
+        EC2_P521,
+        RSA
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.converter.AuthenticatorDataConverter;
+import com.webauthn4j.converter.CollectedClientDataConverter;
+import com.webauthn4j.converter.util.CborConverter;
+import com.webauthn4j.converter.util.JsonConverter;
+import com.webauthn4j.response.WebAuthnAuthenticationContext;
+import com.webauthn4j.response.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.response.attestation.authenticator.CredentialPublicKey;
+import com.webauthn4j.response.client.CollectedClientData;
+import com.webauthn4j.util.MessageDigestUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.PublicKey;
+
+/**
+ * Per-stage breakdown of the authentication ceremony performed by
+ * {@link com.webauthn4j.validator.WebAuthnAuthenticationContextValidator}.
+ * Each benchmark method isolates one stage so that a regression in the end to end number can be attributed.
+ */
+@State(Scope.Thread)
+public class AuthenticationStageBenchmark {
+
+    @Param({"EC2_P256", "EC2_P384", "EC2_P521", "RSA"})
+    private AuthenticationScenario.KeyType keyType;
+
+    private CollectedClientDataConverter collectedClientDataConverter;
+    private AuthenticatorDataConverter authenticatorDataConverter;
+
+    private WebAuthnAuthenticationContext authenticationContext;
+    private CredentialPublicKey credentialPublicKey;
+    private byte[] signedData;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        collectedClientDataConverter = new CollectedClientDataConverter(new JsonConverter());
+        collectedClientDataConverter.setStreamingParseEnabled(true);
+        authenticatorDataConverter = new AuthenticatorDataConverter(new CborConverter());
+
+        AuthenticationScenario scenario = AuthenticationScenario.create(keyType);
+        authenticationContext = scenario.getAuthenticationContext();
+        credentialPublicKey = scenario.getAuthenticator().getAttestedCredentialData().getCredentialPublicKey();
+        signedData = hashClientDataAndConcat();
+    }
+
+    @Benchmark
+    public CollectedClientData convertCollectedClientData() {
+        return collectedClientDataConverter.convert(authenticationContext.getClientDataJSON());
+    }
+
+    @Benchmark
+    public AuthenticatorData convertAuthenticatorData() {
+        return authenticatorDataConverter.convert(authenticationContext.getAuthenticatorData());
+    }
+
+    @Benchmark
+    public byte[] hashRpId() {
+        return MessageDigestUtil.createSHA256().digest(authenticationContext.getServerProperty().getRpId().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public byte[] hashClientDataAndConcat() {
+        byte[] rawAuthenticatorData = authenticationContext.getAuthenticatorData();
+        byte[] clientDataHash = MessageDigestUtil.createSHA256().digest(authenticationContext.getClientDataJSON());
+        return ByteBuffer.allocate(rawAuthenticatorData.length + clientDataHash.length).put(rawAuthenticatorData).put(clientDataHash).array();
+    }
+
+    @Benchmark
+    public PublicKey decodeCredentialPublicKey() {
+        return credentialPublicKey.getPublicKey();
+    }
+
+    @Benchmark
+    public boolean verifySignature() {
+        return credentialPublicKey.verifySignature(authenticationContext.getSignature(), signedData);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.validator.WebAuthnAuthenticationContextValidationResponse;
+import com.webauthn4j.validator.WebAuthnAuthenticationContextValidator;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures {@link WebAuthnAuthenticationContextValidator#validate} end to end, per credential key type
+ */
+@State(Scope.Thread)
+public class AuthenticationValidationBenchmark {
+
+    @Param({"EC2_P256", "EC2_P384", "EC2_P521", "RSA"})
+    private AuthenticationScenario.KeyType keyType;
+
+    private WebAuthnAuthenticationContextValidator target;
+    private AuthenticationScenario scenario;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        target = new WebAuthnAuthenticationContextValidator();
+        scenario = AuthenticationScenario.create(keyType);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetCounter() {
+        scenario.resetCounter();
+    }
+
+    @Benchmark
+    public WebAuthnAuthenticationContextValidationResponse validate() {
+        return target.validate(scenario.getAuthenticationContext(), scenario.getAuthenticator());
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.anchor.TrustAnchorsResolver;
+import com.webauthn4j.request.*;
+import com.webauthn4j.request.extension.client.AuthenticationExtensionsClientInputs;
+import com.webauthn4j.request.extension.client.RegistrationExtensionClientInput;
+import com.webauthn4j.response.AuthenticatorAttestationResponse;
+import com.webauthn4j.response.PublicKeyCredential;
+import com.webauthn4j.response.WebAuthnRegistrationContext;
+import com.webauthn4j.response.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.response.client.challenge.Challenge;
+import com.webauthn4j.response.client.challenge.DefaultChallenge;
+import com.webauthn4j.response.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.test.TestUtil;
+import com.webauthn4j.test.authenticator.AuthenticatorAdaptor;
+import com.webauthn4j.test.authenticator.model.WebAuthnModelAuthenticatorAdaptor;
+import com.webauthn4j.test.authenticator.u2f.FIDOU2FAuthenticatorAdaptor;
+import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.validator.WebAuthnRegistrationContextValidator;
+import com.webauthn4j.validator.attestation.statement.none.NoneAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.packed.PackedAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.statement.u2f.FIDOU2FAttestationStatementValidator;
+import com.webauthn4j.validator.attestation.trustworthiness.certpath.TrustAnchorCertPathTrustworthinessValidator;
+import com.webauthn4j.validator.attestation.trustworthiness.ecdaa.DefaultECDAATrustworthinessValidator;
+import com.webauthn4j.validator.attestation.trustworthiness.self.DefaultSelfAttestationTrustworthinessValidator;
+
+import java.security.cert.TrustAnchor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Pre-computed registration ceremony payload used by the benchmarks.
+ * Payloads are produced end to end by the emulated authenticators through {@link ClientPlatform}.
+ */
+public class RegistrationScenario {
+
+    private final WebAuthnRegistrationContext registrationContext;
+
+    private RegistrationScenario(WebAuthnRegistrationContext registrationContext) {
+        this.registrationContext = registrationContext;
+    }
+
+    static RegistrationScenario create(Format format) {
+        switch (format) {
+            case NONE:
+                return create(new WebAuthnModelAuthenticatorAdaptor(), AttestationConveyancePreference.NONE);
+            case PACKED:
+                return create(new WebAuthnModelAuthenticatorAdaptor(), AttestationConveyancePreference.DIRECT);
+            case FIDO_U2F:
+                return create(new FIDOU2FAuthenticatorAdaptor(), AttestationConveyancePreference.DIRECT);
+            default:
+                throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+    }
+
+    private static RegistrationScenario create(AuthenticatorAdaptor authenticatorAdaptor, AttestationConveyancePreference attestationConveyancePreference) {
+        Challenge challenge = new DefaultChallenge();
+        ClientPlatform clientPlatform = new ClientPlatform(AuthenticationScenario.ORIGIN, authenticatorAdaptor);
+        PublicKeyCredentialCreationOptions credentialCreationOptions = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(AuthenticationScenario.RP_ID, "example.com"),
+                new PublicKeyCredentialUserEntity(),
+                challenge,
+                Collections.singletonList(new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256)),
+                null,
+                Collections.emptyList(),
+                new AuthenticatorSelectionCriteria(AuthenticatorAttachment.CROSS_PLATFORM, true, UserVerificationRequirement.REQUIRED),
+                attestationConveyancePreference,
+                new AuthenticationExtensionsClientInputs<RegistrationExtensionClientInput>()
+        );
+        PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> credential = clientPlatform.create(credentialCreationOptions);
+        AuthenticatorAttestationResponse registrationRequest = credential.getAuthenticatorResponse();
+
+        WebAuthnRegistrationContext registrationContext = new WebAuthnRegistrationContext(
+                registrationRequest.getClientDataJSON(),
+                registrationRequest.getAttestationObject(),
+                null,
+                new ServerProperty(AuthenticationScenario.RELYING_PARTY_CONFIG, challenge, null),
+                false,
+                Collections.emptyList()
+        );
+        return new RegistrationScenario(registrationContext);
+    }
+
+    /**
+     * Creates a validator trusting the 2tier (FIDO-U2F) and 3tier (packed) test root CAs.
+     * Trust anchors are loaded once so that classpath resource loading does not pollute the measurement.
+     * @return validator
+     */
+    static WebAuthnRegistrationContextValidator createValidator() {
+        Set<TrustAnchor> trustAnchors = new HashSet<>();
+        trustAnchors.add(new TrustAnchor(TestUtil.load2tierTestRootCACertificate(), null));
+        trustAnchors.add(new TrustAnchor(TestUtil.load3tierTestRootCACertificate(), null));
+        TrustAnchorsResolver trustAnchorsResolver = aaguid -> trustAnchors;
+        return new WebAuthnRegistrationContextValidator(
+                Arrays.asList(
+                        new NoneAttestationStatementValidator(),
+                        new PackedAttestationStatementValidator(),
+                        new FIDOU2FAttestationStatementValidator()),
+                new TrustAnchorCertPathTrustworthinessValidator(trustAnchorsResolver),
+                new DefaultECDAATrustworthinessValidator(),
+                new DefaultSelfAttestationTrustworthinessValidator()
+        );
+    }
+
+    WebAuthnRegistrationContext getRegistrationContext() {
+        return registrationContext;
+    }
+
+    public enum Format {
+        NONE,
+        PACKED,
+        FIDO_U2F
+    }
+}
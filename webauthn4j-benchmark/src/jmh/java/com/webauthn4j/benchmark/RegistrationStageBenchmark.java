@@ -0,0 +1,71 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.converter.AttestationObjectConverter;
+import com.webauthn4j.converter.CollectedClientDataConverter;
+import com.webauthn4j.converter.jackson.deserializer.AttestationObjectEnvelope;
+import com.webauthn4j.converter.util.CborConverter;
+import com.webauthn4j.converter.util.JsonConverter;
+import com.webauthn4j.response.WebAuthnRegistrationContext;
+import com.webauthn4j.response.attestation.AttestationObject;
+import com.webauthn4j.response.client.CollectedClientData;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Per-stage breakdown of the decoding part of the registration ceremony performed by
+ * {@link com.webauthn4j.validator.WebAuthnRegistrationContextValidator}.
+ */
+@State(Scope.Thread)
+public class RegistrationStageBenchmark {
+
+    @Param({"NONE", "PACKED", "FIDO_U2F"})
+    private RegistrationScenario.Format format;
+
+    private CollectedClientDataConverter collectedClientDataConverter;
+    private AttestationObjectConverter attestationObjectConverter;
+
+    private WebAuthnRegistrationContext registrationContext;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        collectedClientDataConverter = new CollectedClientDataConverter(new JsonConverter());
+        collectedClientDataConverter.setStreamingParseEnabled(true);
+        attestationObjectConverter = new AttestationObjectConverter(new CborConverter());
+        registrationContext = RegistrationScenario.create(format).getRegistrationContext();
+    }
+
+    @Benchmark
+    public CollectedClientData convertCollectedClientData() {
+        return collectedClientDataConverter.convert(registrationContext.getClientDataJSON());
+    }
+
+    @Benchmark
+    public AttestationObject convertAttestationObject() {
+        return attestationObjectConverter.convert(registrationContext.getAttestationObject());
+    }
+
+    @Benchmark
+    public AttestationObjectEnvelope convertAttestationObjectToEnvelope() {
+        return attestationObjectConverter.convertToEnvelope(registrationContext.getAttestationObject());
+    }
+
+    @Benchmark
+    public byte[] extractAuthenticatorData() {
+        return attestationObjectConverter.extractAuthenticatorData(registrationContext.getAttestationObject());
+    }
+}
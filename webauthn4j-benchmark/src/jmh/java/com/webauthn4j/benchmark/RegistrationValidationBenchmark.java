@@ -0,0 +1,47 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.validator.WebAuthnRegistrationContextValidationResponse;
+import com.webauthn4j.validator.WebAuthnRegistrationContextValidator;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures {@link WebAuthnRegistrationContextValidator#validate} end to end, per attestation statement format
+ * that the emulated authenticators in webauthn4j-test can produce.
+ * android-key, android-safetynet and tpm are covered by {@link AttestationStatementValidationBenchmark}.
+ */
+@State(Scope.Thread)
+public class RegistrationValidationBenchmark {
+
+    @Param({"NONE", "PACKED", "FIDO_U2F"})
+    private RegistrationScenario.Format format;
+
+    private WebAuthnRegistrationContextValidator target;
+    private RegistrationScenario scenario;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        target = RegistrationScenario.createValidator();
+        scenario = RegistrationScenario.create(format);
+    }
+
+    @Benchmark
+    public WebAuthnRegistrationContextValidationResponse validate() {
+        return target.validate(scenario.getRegistrationContext());
+    }
+}
@@ -24,7 +24,7 @@ import java.util.Set;
 
 public abstract class CachingTrustAnchorsProviderBase implements TrustAnchorsProvider {
 
-    private Map<AAGUID, Set<TrustAnchor>> cachedTrustAnchors;
+    private volatile Map<AAGUID, Set<TrustAnchor>> cachedTrustAnchors;
 
     /**
      * validate aaguid {@link TrustAnchor} {@link Set} map backed by Java KeyStore file.
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.anchor;
+
+import com.webauthn4j.response.attestation.authenticator.AAGUID;
+import com.webauthn4j.util.AssertUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.cert.TrustAnchor;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Provides {@link TrustAnchor} {@link Set} backed by Java KeyStore file, which is reloaded when the file is updated.
+ * <p>
+ * The file is polled by its last modified time and size on a background daemon thread, and a reloaded map is published
+ * atomically, so that {@link #provide()} never blocks except for the initial load and never returns a partially loaded map.
+ * If reloading fails, the previously loaded map is kept. Polling is stopped by {@link #close()}.
+ */
+public class ReloadingKeyStoreFileTrustAnchorsProvider extends KeyStoreFileTrustAnchorsProvider implements AutoCloseable {
+
+    public static final Duration DEFAULT_POLLING_INTERVAL = Duration.ofMinutes(1);
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    //~ Instance fields ================================================================================================
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private Duration pollingInterval = DEFAULT_POLLING_INTERVAL;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Provides aaguid {@link TrustAnchor} {@link Set} map loaded from the latest version of the keyStore file.
+     *
+     * @return aaguid {@link TrustAnchor} {@link Set} map
+     */
+    @Override
+    public Map<AAGUID, Set<TrustAnchor>> provide() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot.get();
+                if (current == null) {
+                    current = load();
+                    snapshot.set(current);
+                    startPolling();
+                }
+            }
+        }
+        return current.trustAnchors;
+    }
+
+    /**
+     * Reloads trust anchors if the keyStore file is modified since the last load
+     *
+     * @return true if trust anchors are reloaded
+     */
+    public synchronized boolean reloadIfModified() {
+        Snapshot current = snapshot.get();
+        if (current != null && current.fileState.equals(readFileState())) {
+            return false;
+        }
+        snapshot.set(load());
+        return true;
+    }
+
+    /**
+     * Stops polling the keyStore file
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Provides the interval of polling the keyStore file
+     *
+     * @return polling interval
+     */
+    public Duration getPollingInterval() {
+        return pollingInterval;
+    }
+
+    /**
+     * Sets the interval of polling the keyStore file. It takes effect when polling is started by the first {@link #provide()}.
+     *
+     * @param pollingInterval polling interval
+     */
+    public void setPollingInterval(Duration pollingInterval) {
+        AssertUtil.notNull(pollingInterval, "pollingInterval must not be null");
+        AssertUtil.isTrue(!pollingInterval.isNegative() && !pollingInterval.isZero(), "pollingInterval must be positive");
+        this.pollingInterval = pollingInterval;
+    }
+
+    private Snapshot load() {
+        // file state is read before loading, so that an update during loading is detected by the next poll
+        FileState fileState = readFileState();
+        return new Snapshot(fileState, loadTrustAnchors());
+    }
+
+    private void startPolling() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "webauthn4j-trust-anchors-reloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = pollingInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::poll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void poll() {
+        try {
+            if (reloadIfModified()) {
+                logger.info("Reloaded TrustAnchors from keystore {}", getKeyStore());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to reload TrustAnchors from keystore. Previously loaded TrustAnchors are kept.", e);
+        }
+    }
+
+    private FileState readFileState() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(getKeyStore(), BasicFileAttributes.class);
+            return new FileState(attributes.lastModifiedTime(), attributes.size());
+        } catch (IOException e) {
+            throw new KeyStoreException("Failed to read attributes of keystore", e);
+        }
+    }
+
+    private static class Snapshot {
+
+        private final FileState fileState;
+        private final Map<AAGUID, Set<TrustAnchor>> trustAnchors;
+
+        Snapshot(FileState fileState, Map<AAGUID, Set<TrustAnchor>> trustAnchors) {
+            this.fileState = fileState;
+            this.trustAnchors = trustAnchors;
+        }
+    }
+
+    private static class FileState {
+
+        private final FileTime lastModifiedTime;
+        private final long size;
+
+        FileState(FileTime lastModifiedTime, long size) {
+            this.lastModifiedTime = lastModifiedTime;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            FileState fileState = (FileState) o;
+            return size == fileState.size &&
+                    Objects.equals(lastModifiedTime, fileState.lastModifiedTime);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lastModifiedTime, size);
+        }
+    }
+}
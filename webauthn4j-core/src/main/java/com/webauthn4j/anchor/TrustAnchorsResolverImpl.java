@@ -25,6 +25,12 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * Resolves {@link TrustAnchor} {@link Set} from {@link TrustAnchorsProvider}.
+ * The provided map is read on every call, so that changes made to it are reflected immediately.
+ * Each call returns a new mutable set, which is the union of the {@link TrustAnchor}s registered for the aaguid
+ * and the ones registered for {@link AAGUID#NULL}.
+ */
 public class TrustAnchorsResolverImpl implements TrustAnchorsResolver {
 
     private TrustAnchorsProvider trustAnchorsProvider;
@@ -48,5 +54,4 @@ public class TrustAnchorsResolverImpl implements TrustAnchorsResolver {
         return set;
     }
 
-
 }
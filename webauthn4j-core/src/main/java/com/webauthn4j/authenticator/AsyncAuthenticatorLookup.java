@@ -0,0 +1,34 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.authenticator;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking lookup of the {@link Authenticator} by its credential id, used by asynchronous validators
+ */
+@FunctionalInterface
+public interface AsyncAuthenticatorLookup {
+
+    /**
+     * Looks up the {@link Authenticator} of the specified credential
+     *
+     * @param credentialId credential id
+     * @return stage completed with the {@link Authenticator}, or with null if the credential is not registered
+     */
+    CompletionStage<Authenticator> lookup(byte[] credentialId);
+}
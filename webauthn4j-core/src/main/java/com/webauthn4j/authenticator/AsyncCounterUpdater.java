@@ -0,0 +1,38 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.authenticator;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking compare-and-set of the signature counter stored with a credential, used by asynchronous validators
+ */
+@FunctionalInterface
+public interface AsyncCounterUpdater {
+
+    /**
+     * Atomically stores the new signature counter value of the specified credential if the stored value equals the
+     * expected value
+     *
+     * @param credentialId  credential id
+     * @param authenticator authenticator looked up for the credential
+     * @param expected      expected stored value, which is {@link Authenticator#getCounter()} of the looked up authenticator
+     * @param counter       new signature counter value, which is greater than expected
+     * @return stage completed with true if the value is stored, or with false if the stored value is not the expected one
+     */
+    CompletionStage<Boolean> updateCounter(byte[] credentialId, Authenticator authenticator, long expected, long counter);
+}
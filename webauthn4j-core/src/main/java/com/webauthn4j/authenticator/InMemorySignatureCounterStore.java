@@ -0,0 +1,71 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.authenticator;
+
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.ByteArrayKey;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link SignatureCounterStore} which stores signature counters in memory
+ * <p>
+ * Counters are held in a {@link ConcurrentHashMap}, which locks per bin only when a credential is added, and are updated
+ * lock-free by {@link AtomicLong#compareAndSet(long, long)}. It is suitable for a single node; an entry is kept for every
+ * credential which has authenticated.
+ */
+public class InMemorySignatureCounterStore implements SignatureCounterStore {
+
+    //~ Instance fields
+    // ================================================================================================
+
+    private final ConcurrentMap<ByteArrayKey, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    // ~ Methods
+    // ========================================================================================================
+
+    @Override
+    public long getCounter(byte[] credentialId, Authenticator authenticator) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        AssertUtil.notNull(authenticator, "authenticator must not be null");
+        AtomicLong counter = counters.get(ByteArrayKey.wrap(credentialId));
+        if (counter == null) {
+            // the stored key holds a copy, as the caller may modify credentialId afterwards
+            counter = counters.computeIfAbsent(ByteArrayKey.copyOf(credentialId), k -> new AtomicLong(authenticator.getCounter()));
+        }
+        return counter.get();
+    }
+
+    @Override
+    public boolean compareAndSet(byte[] credentialId, long expected, long newValue) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        AtomicLong counter = counters.get(ByteArrayKey.wrap(credentialId));
+        return counter != null && counter.compareAndSet(expected, newValue);
+    }
+
+    /**
+     * Removes the stored signature counter of the specified credential, for example when it is deregistered
+     *
+     * @param credentialId credential id
+     */
+    public void remove(byte[] credentialId) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        counters.remove(ByteArrayKey.wrap(credentialId));
+    }
+}
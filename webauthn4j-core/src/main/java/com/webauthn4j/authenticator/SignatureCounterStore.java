@@ -0,0 +1,44 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.authenticator;
+
+/**
+ * Stores signature counters of credentials with compare-and-set semantics, so that concurrent authentications
+ * with the same credential, on different threads or nodes, cannot leave a smaller counter behind
+ */
+public interface SignatureCounterStore {
+
+    /**
+     * Returns the stored signature counter of the specified credential
+     *
+     * @param credentialId  credential id
+     * @param authenticator authenticator of the credential, whose counter is the initial value if none is stored yet
+     * @return stored signature counter
+     */
+    long getCounter(byte[] credentialId, Authenticator authenticator);
+
+    /**
+     * Atomically sets the signature counter of the specified credential to the new value if the stored value equals
+     * the expected value
+     *
+     * @param credentialId credential id
+     * @param expected     expected stored value, as returned by {@link #getCounter(byte[], Authenticator)}
+     * @param newValue     new value
+     * @return true if the counter is updated
+     */
+    boolean compareAndSet(byte[] credentialId, long expected, long newValue);
+}
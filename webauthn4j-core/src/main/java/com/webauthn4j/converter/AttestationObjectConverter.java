@@ -16,6 +16,7 @@
 
 package com.webauthn4j.converter;
 
+import com.webauthn4j.converter.jackson.deserializer.AttestationObjectEnvelope;
 import com.webauthn4j.converter.util.CborConverter;
 import com.webauthn4j.response.attestation.AttestationObject;
 import com.webauthn4j.util.Base64UrlUtil;
@@ -55,6 +56,19 @@ public class AttestationObjectConverter {
         return cborConverter.readValue(source, AttestationObject.class);
     }
 
+    /**
+     * Converts the specified bytes into {@link AttestationObject}, capturing the raw authenticator data bytes in the same pass
+     *
+     * @param source attestationObject bytes
+     * @return envelope holding the attestationObject and the raw authenticator data bytes
+     */
+    public AttestationObjectEnvelope convertToEnvelope(byte[] source) {
+        if (source == null) {
+            return null;
+        }
+        return cborConverter.readValue(source, AttestationObjectEnvelope.class);
+    }
+
     public byte[] convertToBytes(AttestationObject source) {
         return cborConverter.writeValueAsBytes(source);
     }
@@ -68,5 +82,4 @@ public class AttestationObjectConverter {
         return JacksonUtil.binaryValue(cborConverter.readTree(attestationObject).get("authData"));
     }
 
-
 }
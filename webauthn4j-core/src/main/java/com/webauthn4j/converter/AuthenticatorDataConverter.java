@@ -28,14 +28,17 @@ import com.webauthn4j.response.extension.authenticator.AuthenticationExtensionsA
 import com.webauthn4j.response.extension.authenticator.ExtensionAuthenticatorOutput;
 import com.webauthn4j.util.UnsignedNumberUtil;
 
-import java.io.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 
 /**
  * Converter for {@link AuthenticatorData}
  */
-public class AuthenticatorDataConverter {
+public class AuthenticatorDataConverter implements Serializable {
 
     //~ Instance fields
     // ================================================================================================
@@ -80,9 +83,24 @@ public class AuthenticatorDataConverter {
     }
 
     public <T extends ExtensionAuthenticatorOutput> AuthenticatorData<T> convert(byte[] value) {
-        try {
-            ByteBuffer byteBuffer = ByteBuffer.wrap(value);
+        return convert(ByteBuffer.wrap(value));
+    }
 
+    /**
+     * Converts the remaining bytes of the specified buffer into {@link AuthenticatorData}.
+     * The CBOR encoded members are parsed in place from the backing array without intermediate copies.
+     *
+     * @param byteBuffer buffer positioned at the beginning of the authenticator data
+     * @param <T>        extension authenticator output type
+     * @return authenticator data
+     */
+    public <T extends ExtensionAuthenticatorOutput> AuthenticatorData<T> convert(ByteBuffer byteBuffer) {
+        if (!byteBuffer.hasArray()) {
+            byte[] value = new byte[byteBuffer.remaining()];
+            byteBuffer.get(value);
+            byteBuffer = ByteBuffer.wrap(value);
+        }
+        try {
             byte[] rpIdHash = new byte[32];
             byteBuffer.get(rpIdHash, 0, 32);
             byte flags = byteBuffer.get();
@@ -118,35 +136,29 @@ public class AuthenticatorDataConverter {
         int length = UnsignedNumberUtil.getUnsignedShort(byteBuffer);
         byte[] credentialId = new byte[length];
         byteBuffer.get(credentialId, 0, length);
-        byte[] remaining = new byte[byteBuffer.remaining()];
-        byteBuffer.get(remaining);
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(remaining);
-        CredentialPublicKeyEnvelope credentialPublicKeyEnvelope = convertToCredentialPublicKey(byteArrayInputStream);
+        CredentialPublicKeyEnvelope credentialPublicKeyEnvelope = readValue(byteBuffer, CredentialPublicKeyEnvelope.class);
         CredentialPublicKey credentialPublicKey = credentialPublicKeyEnvelope.getCredentialPublicKey();
-        AttestedCredentialData attestedCredentialData = new AttestedCredentialData(aaguid, credentialId, credentialPublicKey);
-        int extensionsBufferLength = remaining.length - credentialPublicKeyEnvelope.getLength();
-        byteBuffer.position(byteBuffer.position() - extensionsBufferLength);
-        return attestedCredentialData;
-    }
-
-    private CredentialPublicKeyEnvelope convertToCredentialPublicKey(InputStream inputStream) {
-        return cborConverter.readValue(inputStream, CredentialPublicKeyEnvelope.class);
+        byteBuffer.position(byteBuffer.position() + credentialPublicKeyEnvelope.getLength());
+        return new AttestedCredentialData(aaguid, credentialId, credentialPublicKey);
     }
 
     private <T extends ExtensionAuthenticatorOutput> AuthenticationExtensionsAuthenticatorOutputs<T> convertToExtensions(ByteBuffer byteBuffer) {
         if (byteBuffer.remaining() == 0) {
             return new AuthenticationExtensionsAuthenticatorOutputs<>();
         }
-        byte[] remaining = new byte[byteBuffer.remaining()];
-        byteBuffer.get(remaining);
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(remaining);
-        AuthenticationExtensionsAuthenticatorOutputsEnvelope<T> envelope =
-                cborConverter.readValue(byteArrayInputStream, AuthenticationExtensionsAuthenticatorOutputsEnvelope.class);
-        int leftoverLength = remaining.length - envelope.getLength();
-        byteBuffer.position(byteBuffer.position() - leftoverLength);
+        AuthenticationExtensionsAuthenticatorOutputsEnvelope<T> envelope = readValue(byteBuffer, AuthenticationExtensionsAuthenticatorOutputsEnvelope.class);
+        byteBuffer.position(byteBuffer.position() + envelope.getLength());
         return envelope.getAuthenticationExtensionsAuthenticatorOutputs();
     }
 
+    /**
+     * Reads a CBOR value starting at the current position of the buffer, without moving the position.
+     */
+    private <T> T readValue(ByteBuffer byteBuffer, Class valueType) {
+        int offset = byteBuffer.arrayOffset() + byteBuffer.position();
+        return cborConverter.readValue(byteBuffer.array(), offset, byteBuffer.remaining(), valueType);
+    }
+
     byte[] convert(AuthenticationExtensionsAuthenticatorOutputs extensions) {
         if (extensions == null || extensions.isEmpty()) {
             return new byte[0];
@@ -16,20 +16,31 @@
 
 package com.webauthn4j.converter;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.JsonConverter;
-import com.webauthn4j.response.client.CollectedClientData;
+import com.webauthn4j.response.client.*;
+import com.webauthn4j.response.client.challenge.Challenge;
+import com.webauthn4j.response.client.challenge.DefaultChallenge;
 import com.webauthn4j.util.Base64UrlUtil;
 
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * Converter for {@link CollectedClientData}
  */
 public class CollectedClientDataConverter {
 
+    private static final String INPUT_MISMATCH_ERROR_MESSAGE = "Input data does not match expected form";
+
     //~ Instance fields
     // ================================================================================================
     private JsonConverter jsonConverter;
+    private boolean streamingParseEnabled = false;
 
     //~ Constructors
     // ================================================================================================
@@ -49,12 +60,35 @@ public class CollectedClientDataConverter {
         return convert(bytes);
     }
 
+    /**
+     * Converts clientDataJSON bytes to {@link CollectedClientData}.
+     * <p>
+     * When the streaming parse is enabled by {@link #setStreamingParseEnabled(boolean)}, the bytes are read with the
+     * streaming parser and only the members of {@link CollectedClientData} are materialized. Valid JSON of a shape the
+     * streaming parser doesn't handle is still converted with data binding.
+     *
+     * @param source clientDataJSON bytes
+     * @return {@link CollectedClientData}
+     */
     public CollectedClientData convert(byte[] source) {
         if (source == null) {
             return null;
         }
-        String jsonString = new String(source, StandardCharsets.UTF_8);
-        return jsonConverter.readValue(jsonString, CollectedClientData.class);
+        if (!streamingParseEnabled) {
+            return jsonConverter.readValue(source, CollectedClientData.class);
+        }
+        CollectedClientData collectedClientData;
+        try (JsonParser parser = jsonConverter.getJsonMapper().getFactory().createParser(source)) {
+            collectedClientData = parse(parser);
+        } catch (MismatchedInputException | JsonParseException | IllegalArgumentException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (collectedClientData == null) {
+            return jsonConverter.readValue(source, CollectedClientData.class);
+        }
+        return collectedClientData;
     }
 
     public byte[] convertToBytes(CollectedClientData source) {
@@ -66,4 +100,111 @@ public class CollectedClientDataConverter {
         return Base64UrlUtil.encodeToString(bytes);
     }
 
+    public boolean isStreamingParseEnabled() {
+        return streamingParseEnabled;
+    }
+
+    /**
+     * Enables converting clientDataJSON bytes with the streaming parser instead of data binding.
+     * As the streaming parser bypasses the JSON mapper, it must be enabled only when no deserializer or mix-in is
+     * registered for {@link CollectedClientData} and its members. It is disabled by default.
+     *
+     * @param streamingParseEnabled true to enable the streaming parse
+     */
+    public void setStreamingParseEnabled(boolean streamingParseEnabled) {
+        this.streamingParseEnabled = streamingParseEnabled;
+    }
+
+    /**
+     * Parses {@link CollectedClientData} with the streaming parser
+     *
+     * @return {@link CollectedClientData}, or null if the shape of the input requires data binding
+     */
+    private CollectedClientData parse(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+        ClientDataType type = null;
+        Challenge challenge = null;
+        Origin origin = null;
+        TokenBinding tokenBinding = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (fieldName) {
+                case "type":
+                    if (!isStringOrNull(token)) {
+                        return null;
+                    }
+                    type = ClientDataType.create(token == JsonToken.VALUE_NULL ? null : parser.getText());
+                    break;
+                case "challenge":
+                    if (!isStringOrNull(token)) {
+                        return null;
+                    }
+                    challenge = token == JsonToken.VALUE_NULL ? null : new DefaultChallenge(parser.getText());
+                    break;
+                case "origin":
+                    if (!isStringOrNull(token)) {
+                        return null;
+                    }
+                    origin = token == JsonToken.VALUE_NULL ? null : Origin.create(parser.getText());
+                    break;
+                case "tokenBinding":
+                    if (token == JsonToken.VALUE_NULL) {
+                        tokenBinding = null;
+                        break;
+                    }
+                    if (token != JsonToken.START_OBJECT) {
+                        return null;
+                    }
+                    tokenBinding = parseTokenBinding(parser);
+                    if (tokenBinding == null) {
+                        return null;
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        if (parser.currentToken() != JsonToken.END_OBJECT) {
+            return null;
+        }
+        return new CollectedClientData(type, challenge, origin, tokenBinding);
+    }
+
+    private TokenBinding parseTokenBinding(JsonParser parser) throws IOException {
+        TokenBindingStatus status = null;
+        String id = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (fieldName) {
+                case "status":
+                    if (!isStringOrNull(token)) {
+                        return null;
+                    }
+                    status = TokenBindingStatus.create(token == JsonToken.VALUE_NULL ? null : parser.getText());
+                    break;
+                case "id":
+                    if (!isStringOrNull(token)) {
+                        return null;
+                    }
+                    id = token == JsonToken.VALUE_NULL ? null : parser.getText();
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        if (parser.currentToken() != JsonToken.END_OBJECT) {
+            return null;
+        }
+        return new TokenBinding(status, id);
+    }
+
+    private static boolean isStringOrNull(JsonToken token) {
+        return token == JsonToken.VALUE_STRING || token == JsonToken.VALUE_NULL;
+    }
 }
@@ -37,6 +37,7 @@ public class WebAuthnCBORModule extends SimpleModule {
     public WebAuthnCBORModule(JsonConverter jsonConverter, CborConverter cborConverter) {
         super("WebAuthnCBORModule");
 
+        this.addDeserializer(AttestationObjectEnvelope.class, new AttestationObjectEnvelopeDeserializer());
         this.addDeserializer(AuthenticationExtensionsAuthenticatorOutputsEnvelope.class, new AuthenticationExtensionsAuthenticatorOutputsEnvelopeDeserializer());
         this.addDeserializer(CertPath.class, new CertPathDeserializer());
         this.addDeserializer(Challenge.class, new ChallengeDeserializer());
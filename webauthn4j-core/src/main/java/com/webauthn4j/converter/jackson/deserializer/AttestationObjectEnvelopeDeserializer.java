@@ -0,0 +1,48 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter.jackson.deserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.webauthn4j.response.attestation.AttestationObject;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Jackson Deserializer for {@link AttestationObjectEnvelope}, which captures the raw authenticator data bytes
+ * while deserializing {@link AttestationObject}
+ */
+public class AttestationObjectEnvelopeDeserializer extends StdDeserializer<AttestationObjectEnvelope> {
+
+    public AttestationObjectEnvelopeDeserializer() {
+        super(AttestationObjectEnvelope.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AttestationObjectEnvelope deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        AtomicReference<byte[]> authenticatorDataBytes = new AtomicReference<>();
+        // a per-call attribute, so that the shared reader and its config are not forked on every call
+        ctxt.setAttribute(AuthenticatorDataDeserializer.RAW_AUTHENTICATOR_DATA_ATTRIBUTE, authenticatorDataBytes);
+        AttestationObject attestationObject = ctxt.readValue(p, AttestationObject.class);
+        return new AttestationObjectEnvelope(attestationObject, authenticatorDataBytes.get());
+    }
+}
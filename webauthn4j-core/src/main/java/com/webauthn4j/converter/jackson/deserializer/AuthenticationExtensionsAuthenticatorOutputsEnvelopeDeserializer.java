@@ -36,8 +36,9 @@ public class AuthenticationExtensionsAuthenticatorOutputsEnvelopeDeserializer ex
     @SuppressWarnings("unchecked")
     @Override
     public AuthenticationExtensionsAuthenticatorOutputsEnvelope deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        long start = p.getTokenLocation().getByteOffset();
         AuthenticationExtensionsAuthenticatorOutputs<ExtensionAuthenticatorOutput> authenticationExtensionsAuthenticatorOutputs = ctxt.readValue(p, AuthenticationExtensionsAuthenticatorOutputs.class);
-        int length = (int) p.getCurrentLocation().getByteOffset();
+        int length = (int) (p.getCurrentLocation().getByteOffset() - start);
         return new AuthenticationExtensionsAuthenticatorOutputsEnvelope(authenticationExtensionsAuthenticatorOutputs, length);
     }
 }
@@ -24,26 +24,38 @@ import com.webauthn4j.converter.util.CborConverter;
 import com.webauthn4j.response.attestation.authenticator.AuthenticatorData;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Jackson Deserializer for {@link AuthenticatorData}
  */
 public class AuthenticatorDataDeserializer extends StdDeserializer<AuthenticatorData> {
 
-    private CborConverter cborConverter;
+    /**
+     * Per-call attribute holding an {@link AtomicReference} which receives the raw authenticator data bytes
+     */
+    public static final String RAW_AUTHENTICATOR_DATA_ATTRIBUTE = AuthenticatorDataDeserializer.class.getName() + ".rawAuthenticatorData";
+
+    private final AuthenticatorDataConverter authenticatorDataConverter;
 
     public AuthenticatorDataDeserializer(CborConverter cborConverter) {
         super(AuthenticatorData.class);
-        this.cborConverter = cborConverter;
+        this.authenticatorDataConverter = new AuthenticatorDataConverter(cborConverter);
     }
 
     /**
      * {@inheritDoc}
      */
+    @SuppressWarnings("unchecked")
     @Override
     public AuthenticatorData deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
         byte[] value = p.getBinaryValue();
-        return new AuthenticatorDataConverter(cborConverter).convert(value);
+        Object rawAuthenticatorData = ctxt.getAttribute(RAW_AUTHENTICATOR_DATA_ATTRIBUTE);
+        if (rawAuthenticatorData instanceof AtomicReference) {
+            ((AtomicReference<byte[]>) rawAuthenticatorData).set(value);
+        }
+        return authenticatorDataConverter.convert(ByteBuffer.wrap(value));
     }
 
 
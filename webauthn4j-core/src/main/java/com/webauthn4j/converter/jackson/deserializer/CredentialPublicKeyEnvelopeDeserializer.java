@@ -34,8 +34,9 @@ public class CredentialPublicKeyEnvelopeDeserializer extends StdDeserializer<Cre
      */
     @Override
     public CredentialPublicKeyEnvelope deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        long start = p.getTokenLocation().getByteOffset();
         CredentialPublicKey credentialPublicKey = ctxt.readValue(p, CredentialPublicKey.class);
-        int length = (int) p.getCurrentLocation().getByteOffset();
+        int length = (int) (p.getCurrentLocation().getByteOffset() - start);
         return new CredentialPublicKeyEnvelope(credentialPublicKey, length);
     }
 }
\ No newline at end of file
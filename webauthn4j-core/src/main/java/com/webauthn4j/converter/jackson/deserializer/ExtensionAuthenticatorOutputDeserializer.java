@@ -17,24 +17,21 @@
 package com.webauthn4j.converter.jackson.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
-import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
-import com.fasterxml.jackson.databind.introspect.AnnotatedClassResolver;
-import com.fasterxml.jackson.databind.jsontype.NamedType;
 import com.webauthn4j.response.extension.authenticator.ExtensionAuthenticatorOutput;
 
 import java.io.IOException;
-import java.util.Collection;
-import java.util.Objects;
 
 /**
  * Jackson Deserializer for {@link ExtensionAuthenticatorOutput}
  */
 public class ExtensionAuthenticatorOutputDeserializer extends StdDeserializer<ExtensionAuthenticatorOutput> {
 
+    private final ExtensionSubtypeIndex subtypeIndex = new ExtensionSubtypeIndex(ExtensionAuthenticatorOutput.class);
+
     public ExtensionAuthenticatorOutputDeserializer() {
         super(ExtensionAuthenticatorOutput.class);
     }
@@ -50,14 +47,9 @@ public class ExtensionAuthenticatorOutputDeserializer extends StdDeserializer<Ex
             name = p.getParsingContext().getParent().getCurrentName();
         }
 
-        DeserializationConfig config = ctxt.getConfig();
-        AnnotatedClass annotatedClass = AnnotatedClassResolver.resolveWithoutSuperTypes(config, ExtensionAuthenticatorOutput.class);
-        Collection<NamedType> namedTypes = config.getSubtypeResolver().collectAndResolveSubtypesByClass(config, annotatedClass);
-
-        for (NamedType namedType : namedTypes) {
-            if (Objects.equals(namedType.getName(), name)) {
-                return (ExtensionAuthenticatorOutput) ctxt.readValue(p, namedType.getType());
-            }
+        JavaType type = subtypeIndex.find(ctxt.getConfig(), name);
+        if (type != null) {
+            return (ExtensionAuthenticatorOutput) ctxt.readValue(p, type);
         }
 
         throw new InvalidFormatException(p, "value is out of range", name, ExtensionAuthenticatorOutput.class);
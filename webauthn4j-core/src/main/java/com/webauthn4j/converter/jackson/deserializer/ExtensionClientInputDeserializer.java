@@ -17,25 +17,22 @@
 package com.webauthn4j.converter.jackson.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
-import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
-import com.fasterxml.jackson.databind.introspect.AnnotatedClassResolver;
-import com.fasterxml.jackson.databind.jsontype.NamedType;
 import com.webauthn4j.request.extension.client.ExtensionClientInput;
 import com.webauthn4j.response.extension.client.ExtensionClientOutput;
 
 import java.io.IOException;
-import java.util.Collection;
-import java.util.Objects;
 
 /**
  * Jackson Deserializer for {@link ExtensionClientOutput}
  */
 public class ExtensionClientInputDeserializer extends StdDeserializer<ExtensionClientInput> {
 
+    private final ExtensionSubtypeIndex subtypeIndex = new ExtensionSubtypeIndex(ExtensionClientInput.class);
+
     public ExtensionClientInputDeserializer() {
         super(ExtensionClientInput.class);
     }
@@ -51,14 +48,9 @@ public class ExtensionClientInputDeserializer extends StdDeserializer<ExtensionC
             name = p.getParsingContext().getParent().getCurrentName();
         }
 
-        DeserializationConfig config = ctxt.getConfig();
-        AnnotatedClass annotatedClass = AnnotatedClassResolver.resolveWithoutSuperTypes(config, ExtensionClientInput.class);
-        Collection<NamedType> namedTypes = config.getSubtypeResolver().collectAndResolveSubtypesByClass(config, annotatedClass);
-
-        for (NamedType namedType : namedTypes) {
-            if (Objects.equals(namedType.getName(), name)) {
-                return (ExtensionClientInput) ctxt.readValue(p, namedType.getType());
-            }
+        JavaType type = subtypeIndex.find(ctxt.getConfig(), name);
+        if (type != null) {
+            return (ExtensionClientInput) ctxt.readValue(p, type);
         }
 
         throw new InvalidFormatException(p, "value is out of range", name, ExtensionClientInput.class);
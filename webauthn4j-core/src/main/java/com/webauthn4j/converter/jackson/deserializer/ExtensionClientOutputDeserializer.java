@@ -17,24 +17,21 @@
 package com.webauthn4j.converter.jackson.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
-import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
-import com.fasterxml.jackson.databind.introspect.AnnotatedClassResolver;
-import com.fasterxml.jackson.databind.jsontype.NamedType;
 import com.webauthn4j.response.extension.client.ExtensionClientOutput;
 
 import java.io.IOException;
-import java.util.Collection;
-import java.util.Objects;
 
 /**
  * Jackson Deserializer for {@link ExtensionClientOutput}
  */
 public class ExtensionClientOutputDeserializer extends StdDeserializer<ExtensionClientOutput> {
 
+    private final ExtensionSubtypeIndex subtypeIndex = new ExtensionSubtypeIndex(ExtensionClientOutput.class);
+
     public ExtensionClientOutputDeserializer() {
         super(ExtensionClientOutput.class);
     }
@@ -50,17 +47,11 @@ public class ExtensionClientOutputDeserializer extends StdDeserializer<Extension
             name = p.getParsingContext().getParent().getCurrentName();
         }
 
-        DeserializationConfig config = ctxt.getConfig();
-        AnnotatedClass annotatedClass = AnnotatedClassResolver.resolveWithoutSuperTypes(config, ExtensionClientOutput.class);
-        Collection<NamedType> namedTypes = config.getSubtypeResolver().collectAndResolveSubtypesByClass(config, annotatedClass);
-
-        for (NamedType namedType : namedTypes) {
-            if (Objects.equals(namedType.getName(), name)) {
-                return (ExtensionClientOutput) ctxt.readValue(p, namedType.getType());
-            }
+        JavaType type = subtypeIndex.find(ctxt.getConfig(), name);
+        if (type != null) {
+            return (ExtensionClientOutput) ctxt.readValue(p, type);
         }
 
         throw new InvalidFormatException(p, "value is out of range", name, ExtensionClientOutput.class);
-
     }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter.jackson.deserializer;
+
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClassResolver;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index from extension identifier to the subtype registered for an extension base type.
+ * <p>
+ * The index is built once per {@link DeserializationConfig} instead of resolving subtypes for every extension entry.
+ * Custom extension types are registered to Jackson as usual, for example by {@code ObjectMapper#registerSubtypes} with
+ * a {@link NamedType} whose name is the extension identifier, before the mapper is first used. An identifier missing
+ * from the index resolves to null without rebuilding it, as the identifier comes from the untrusted input.
+ */
+class ExtensionSubtypeIndex implements Serializable {
+
+    private final Class<?> baseType;
+
+    private transient volatile Snapshot snapshot;
+
+    ExtensionSubtypeIndex(Class<?> baseType) {
+        this.baseType = baseType;
+    }
+
+    /**
+     * Returns the subtype registered for the specified identifier
+     *
+     * @param config     deserialization config
+     * @param identifier extension identifier
+     * @return subtype, or null if no subtype is registered for the identifier
+     */
+    JavaType find(DeserializationConfig config, String identifier) {
+        Snapshot current = snapshot;
+        if (current == null || current.config != config) {
+            current = build(config);
+        }
+        return current.types.get(identifier);
+    }
+
+    private Snapshot build(DeserializationConfig config) {
+        AnnotatedClass annotatedClass = AnnotatedClassResolver.resolveWithoutSuperTypes(config, baseType);
+        Collection<NamedType> namedTypes = config.getSubtypeResolver().collectAndResolveSubtypesByClass(config, annotatedClass);
+        Map<String, JavaType> types = new HashMap<>();
+        for (NamedType namedType : namedTypes) {
+            if (namedType.getName() != null) {
+                types.putIfAbsent(namedType.getName(), config.constructType(namedType.getType()));
+            }
+        }
+        Snapshot built = new Snapshot(config, Collections.unmodifiableMap(types));
+        snapshot = built;
+        return built;
+    }
+
+    private static class Snapshot {
+
+        private final DeserializationConfig config;
+        private final Map<String, JavaType> types;
+
+        private Snapshot(DeserializationConfig config, Map<String, JavaType> types) {
+            this.config = config;
+            this.types = types;
+        }
+    }
+}
@@ -19,14 +19,13 @@ package com.webauthn4j.converter.util;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.webauthn4j.converter.exception.DataConversionException;
-import com.webauthn4j.converter.jackson.WebAuthnCBORModule;
-import com.webauthn4j.converter.jackson.WebAuthnJSONModule;
 import com.webauthn4j.response.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
 import com.webauthn4j.util.AssertUtil;
 
@@ -34,21 +33,28 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A utility class for CBOR serialization/deserialization
+ * <p>
+ * {@link CborConverter} and its paired {@link JsonConverter} configure the shared {@link ObjectMapper}s on construction
+ * and cache the {@link ObjectReader}s and {@link ObjectWriter}s built from them on first use. As these snapshot the mapper
+ * configuration, modules must be registered to {@link #getJsonMapper()} and {@link #getCborMapper()} before the converter is first used.
  */
 public class CborConverter implements Serializable {
 
     private static final String INPUT_MISMATCH_ERROR_MESSAGE = "Input data does not match expected form";
 
-    private ObjectMapper jsonMapper;
-    private ObjectMapper cborMapper;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
 
-    private boolean jsonMapperInitialized = false;
-    private boolean cborMapperInitialized = false;
+    private final JsonConverter jsonConverter;
 
-    private JsonConverter jsonConverter;
+    private volatile ObjectWriter cborWriter;
+    private volatile ObjectReader cborTreeReader;
+    private final ConcurrentMap<Class<?>, ObjectReader> cborReaders = new ConcurrentHashMap<>();
 
     public CborConverter(ObjectMapper jsonMapper, ObjectMapper cborMapper) {
         AssertUtil.isTrue(!(jsonMapper.getFactory() instanceof CBORFactory), "factory of jsonMapper must be JsonFactory.");
@@ -56,16 +62,40 @@ public class CborConverter implements Serializable {
 
         this.jsonMapper = jsonMapper;
         this.cborMapper = cborMapper;
+        // the peer only keeps the reference to this instance, so it is created once every other field is assigned
+        this.jsonConverter = new JsonConverter(this);
+        JsonConverter.configure(jsonMapper, cborMapper, jsonConverter, this);
     }
 
-    public CborConverter(){
+    public CborConverter() {
         this(new ObjectMapper(), new ObjectMapper(new CBORFactory()));
     }
 
+    /**
+     * Creates a {@link CborConverter} paired with the specified {@link JsonConverter}, which is still under construction
+     * and configures the mappers once this constructor returns
+     */
+    CborConverter(JsonConverter jsonConverter) {
+        this.jsonMapper = jsonConverter.getJsonMapper();
+        this.cborMapper = jsonConverter.getCborMapper();
+        this.jsonConverter = jsonConverter;
+    }
+
     @SuppressWarnings("unchecked")
     public <T> T readValue(byte[] src, Class valueType) {
         try {
-            return (T) getCborMapper().readValue(src, valueType);
+            return (T) getCborReader(valueType).readValue(src);
+        } catch (MismatchedInputException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(byte[] src, int offset, int length, Class valueType) {
+        try {
+            return (T) getCborReader(valueType).readValue(src, offset, length);
         } catch (MismatchedInputException | JsonParseException e) {
             throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
         } catch (IOException e) {
@@ -76,7 +106,7 @@ public class CborConverter implements Serializable {
     @SuppressWarnings("unchecked")
     public <T> T readValue(InputStream src, Class valueType) {
         try {
-            return (T) getCborMapper().readValue(src, valueType);
+            return (T) getCborReader(valueType).readValue(src);
         } catch (MismatchedInputException | JsonParseException e) {
             throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
         } catch (IOException e) {
@@ -86,7 +116,7 @@ public class CborConverter implements Serializable {
 
     public <T> T readValue(byte[] src, TypeReference valueTypeRef) {
         try {
-            return getCborMapper().readValue(src, valueTypeRef);
+            return cborMapper.readerFor(valueTypeRef).readValue(src);
         } catch (MismatchedInputException | JsonParseException e) {
             throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
         } catch (IOException e) {
@@ -96,7 +126,7 @@ public class CborConverter implements Serializable {
 
     public AuthenticationExtensionsAuthenticatorOutputs readValue(InputStream inputStream, TypeReference<AuthenticationExtensionsAuthenticatorOutputs> typeReference) {
         try {
-            return getCborMapper().readValue(inputStream, typeReference);
+            return cborMapper.readerFor(typeReference).readValue(inputStream);
         } catch (MismatchedInputException | JsonParseException e) {
             throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
         } catch (IOException e) {
@@ -106,7 +136,7 @@ public class CborConverter implements Serializable {
 
     public JsonNode readTree(byte[] bytes) {
         try {
-            return getCborMapper().readTree(bytes);
+            return getCborTreeReader().readValue(bytes);
         } catch (MismatchedInputException | JsonParseException e) {
             throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
         } catch (IOException e) {
@@ -116,36 +146,49 @@ public class CborConverter implements Serializable {
 
     public byte[] writeValueAsBytes(Object value) {
         try {
-            return getCborMapper().writeValueAsBytes(value);
+            return getCborWriter().writeValueAsBytes(value);
         } catch (JsonProcessingException e) {
             throw new UncheckedIOException(e);
         }
     }
 
-    public ObjectMapper getJsonMapper() {
-        if(!jsonMapperInitialized){
-            jsonMapper.registerModule(new WebAuthnJSONModule(getJsonConverter(), this));
-            jsonMapper.configure(DeserializationFeature.WRAP_EXCEPTIONS, false);
-            jsonMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-            jsonMapperInitialized = true;
+    private ObjectWriter getCborWriter() {
+        ObjectWriter writer = cborWriter;
+        if (writer == null) {
+            writer = cborMapper.writer();
+            cborWriter = writer;
+        }
+        return writer;
+    }
+
+    private ObjectReader getCborTreeReader() {
+        ObjectReader reader = cborTreeReader;
+        if (reader == null) {
+            reader = cborMapper.readerFor(JsonNode.class);
+            cborTreeReader = reader;
         }
+        return reader;
+    }
+
+    /**
+     * Returns the {@link ObjectReader} shared by all reads of the specified type
+     *
+     * @param valueType value type
+     * @return object reader
+     */
+    public ObjectReader getCborReader(Class<?> valueType) {
+        return cborReaders.computeIfAbsent(valueType, key -> cborMapper.readerFor(valueType));
+    }
+
+    public ObjectMapper getJsonMapper() {
         return jsonMapper;
     }
 
     public ObjectMapper getCborMapper() {
-        if(!cborMapperInitialized){
-            cborMapper.registerModule(new WebAuthnCBORModule(getJsonConverter(), this));
-            cborMapper.configure(DeserializationFeature.WRAP_EXCEPTIONS, false);
-            cborMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-            cborMapperInitialized = true;
-        }
         return cborMapper;
     }
 
     public JsonConverter getJsonConverter() {
-        if (jsonConverter == null) {
-            jsonConverter = new JsonConverter(jsonMapper, cborMapper);
-        }
         return jsonConverter;
     }
 }
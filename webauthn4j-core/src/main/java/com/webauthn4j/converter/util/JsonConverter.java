@@ -22,6 +22,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.webauthn4j.converter.exception.DataConversionException;
@@ -33,21 +35,27 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A utility class for JSON serialization/deserialization
+ * <p>
+ * {@link JsonConverter} and its paired {@link CborConverter} configure the shared {@link ObjectMapper}s on construction
+ * and cache the {@link ObjectReader}s and {@link ObjectWriter}s built from them on first use. As these snapshot the mapper
+ * configuration, modules must be registered to {@link #getJsonMapper()} and {@link #getCborMapper()} before the converter is first used.
  */
 public class JsonConverter implements Serializable {
 
     private static final String INPUT_MISMATCH_ERROR_MESSAGE = "Input data does not match expected form";
 
-    private ObjectMapper jsonMapper;
-    private ObjectMapper cborMapper;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
 
-    private boolean jsonMapperInitialized = false;
-    private boolean cborMapperInitialized = false;
+    private final CborConverter cborConverter;
 
-    private CborConverter cborConverter;
+    private volatile ObjectWriter jsonWriter;
+    private final ConcurrentMap<Class<?>, ObjectReader> jsonReaders = new ConcurrentHashMap<>();
 
     public JsonConverter(ObjectMapper jsonMapper, ObjectMapper cborMapper) {
         AssertUtil.isTrue(!(jsonMapper.getFactory() instanceof CBORFactory), "factory of jsonMapper must be JsonFactory.");
@@ -55,16 +63,49 @@ public class JsonConverter implements Serializable {
 
         this.jsonMapper = jsonMapper;
         this.cborMapper = cborMapper;
+        // the peer only keeps the reference to this instance, so it is created once every other field is assigned
+        this.cborConverter = new CborConverter(this);
+        configure(jsonMapper, cborMapper, this, cborConverter);
     }
 
     public JsonConverter() {
         this(new ObjectMapper(new JsonFactory()), new ObjectMapper(new CBORFactory()));
     }
 
+    /**
+     * Creates a {@link JsonConverter} paired with the specified {@link CborConverter}, which is still under construction
+     * and configures the mappers once this constructor returns
+     */
+    JsonConverter(CborConverter cborConverter) {
+        this.jsonMapper = cborConverter.getJsonMapper();
+        this.cborMapper = cborConverter.getCborMapper();
+        this.cborConverter = cborConverter;
+    }
+
+    static void configure(ObjectMapper jsonMapper, ObjectMapper cborMapper, JsonConverter jsonConverter, CborConverter cborConverter) {
+        jsonMapper.registerModule(new WebAuthnJSONModule(jsonConverter, cborConverter));
+        jsonMapper.configure(DeserializationFeature.WRAP_EXCEPTIONS, false);
+        jsonMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        cborMapper.registerModule(new WebAuthnCBORModule(jsonConverter, cborConverter));
+        cborMapper.configure(DeserializationFeature.WRAP_EXCEPTIONS, false);
+        cborMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
     @SuppressWarnings("unchecked")
     public <T> T readValue(String src, Class valueType) {
         try {
-            return (T) getJsonMapper().readValue(src, valueType);
+            return (T) getJsonReader(valueType).readValue(src);
+        } catch (MismatchedInputException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(byte[] src, Class valueType) {
+        try {
+            return (T) getJsonReader(valueType).readValue(src);
         } catch (MismatchedInputException | JsonParseException e) {
             throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
         } catch (IOException e) {
@@ -75,7 +116,7 @@ public class JsonConverter implements Serializable {
     @SuppressWarnings("unchecked")
     public <T> T readValue(InputStream src, Class valueType) {
         try {
-            return (T) getJsonMapper().readValue(src, valueType);
+            return (T) getJsonReader(valueType).readValue(src);
         } catch (MismatchedInputException | JsonParseException e) {
             throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
         } catch (IOException e) {
@@ -85,7 +126,7 @@ public class JsonConverter implements Serializable {
 
     public <T> T readValue(String src, TypeReference valueTypeRef) {
         try {
-            return getJsonMapper().readValue(src, valueTypeRef);
+            return jsonMapper.readerFor(valueTypeRef).readValue(src);
         } catch (MismatchedInputException | JsonParseException e) {
             throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
         } catch (IOException e) {
@@ -95,7 +136,7 @@ public class JsonConverter implements Serializable {
 
     public <T> T readValue(InputStream src, TypeReference valueTypeRef) {
         try {
-            return getJsonMapper().readValue(src, valueTypeRef);
+            return jsonMapper.readerFor(valueTypeRef).readValue(src);
         } catch (MismatchedInputException | JsonParseException e) {
             throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
         } catch (IOException e) {
@@ -105,7 +146,7 @@ public class JsonConverter implements Serializable {
 
     public byte[] writeValueAsBytes(Object value) {
         try {
-            return getJsonMapper().writeValueAsBytes(value);
+            return getJsonWriter().writeValueAsBytes(value);
         } catch (JsonProcessingException e) {
             throw new UncheckedIOException(e);
         }
@@ -113,36 +154,40 @@ public class JsonConverter implements Serializable {
 
     public String writeValueAsString(Object value) {
         try {
-            return getJsonMapper().writeValueAsString(value);
+            return getJsonWriter().writeValueAsString(value);
         } catch (JsonProcessingException e) {
             throw new UncheckedIOException(e);
         }
     }
 
-    public ObjectMapper getJsonMapper() {
-        if(!jsonMapperInitialized){
-            jsonMapper.registerModule(new WebAuthnJSONModule(this, getCborConverter()));
-            jsonMapper.configure(DeserializationFeature.WRAP_EXCEPTIONS, false);
-            jsonMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-            jsonMapperInitialized = true;
+    private ObjectWriter getJsonWriter() {
+        ObjectWriter writer = jsonWriter;
+        if (writer == null) {
+            writer = jsonMapper.writer();
+            jsonWriter = writer;
         }
+        return writer;
+    }
+
+    /**
+     * Returns the {@link ObjectReader} shared by all reads of the specified type
+     *
+     * @param valueType value type
+     * @return object reader
+     */
+    public ObjectReader getJsonReader(Class<?> valueType) {
+        return jsonReaders.computeIfAbsent(valueType, key -> jsonMapper.readerFor(valueType));
+    }
+
+    public ObjectMapper getJsonMapper() {
         return jsonMapper;
     }
 
     public ObjectMapper getCborMapper() {
-        if(!cborMapperInitialized){
-            cborMapper.registerModule(new WebAuthnCBORModule(this, getCborConverter()));
-            cborMapper.configure(DeserializationFeature.WRAP_EXCEPTIONS, false);
-            cborMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-            cborMapperInitialized = true;
-        }
         return cborMapper;
     }
 
     public CborConverter getCborConverter() {
-        if (cborConverter == null) {
-            cborConverter = new CborConverter(jsonMapper, cborMapper);
-        }
         return cborConverter;
     }
 }
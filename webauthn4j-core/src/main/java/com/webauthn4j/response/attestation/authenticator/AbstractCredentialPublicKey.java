@@ -23,9 +23,11 @@ import com.webauthn4j.response.attestation.statement.COSEAlgorithmIdentifier;
 import com.webauthn4j.response.attestation.statement.COSEKeyOperation;
 import com.webauthn4j.response.attestation.statement.COSEKeyType;
 import com.webauthn4j.util.ArrayUtil;
+import com.webauthn4j.util.CryptoPrimitivePool;
+import com.webauthn4j.util.SignatureUtil;
 
 import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
 import java.security.Signature;
 import java.security.SignatureException;
 import java.util.Arrays;
@@ -46,6 +48,10 @@ public abstract class AbstractCredentialPublicKey implements CredentialPublicKey
     @JsonProperty("5")
     private byte[] baseIV;
 
+    // JCA representation is derived from the immutable COSE key parameters, so it is decoded once and reused.
+    // PublicKey is immutable, thus a racy initialization only results in a redundant decode.
+    private transient volatile PublicKey publicKey;
+
     @JsonCreator
     AbstractCredentialPublicKey(
             @JsonProperty("2") byte[] keyId,
@@ -78,6 +84,22 @@ public abstract class AbstractCredentialPublicKey implements CredentialPublicKey
         return ArrayUtil.clone(baseIV);
     }
 
+    @Override
+    public PublicKey getPublicKey() {
+        PublicKey cached = publicKey;
+        if (cached == null) {
+            cached = createPublicKey();
+            publicKey = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Decodes the COSE key parameters into JCA {@link PublicKey}
+     * @return public key
+     */
+    protected abstract PublicKey createPublicKey();
+
     @JsonIgnore
     private String getAlgorithmName() {
         return algorithm.getJcaName();
@@ -85,13 +107,13 @@ public abstract class AbstractCredentialPublicKey implements CredentialPublicKey
 
     @Override
     public boolean verifySignature(byte[] signature, byte[] data) {
-        try {
-            Signature verifier = Signature.getInstance(getAlgorithmName());
+        try (CryptoPrimitivePool.Lease<Signature> lease = SignatureUtil.borrowSignature(getAlgorithmName())) {
+            Signature verifier = lease.get();
             verifier.initVerify(getPublicKey());
             verifier.update(data);
 
             return verifier.verify(signature);
-        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException | RuntimeException e) {
+        } catch (SignatureException | InvalidKeyException | RuntimeException e) {
             return false;
         }
     }
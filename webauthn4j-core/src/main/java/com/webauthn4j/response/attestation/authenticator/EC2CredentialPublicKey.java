@@ -140,10 +140,10 @@ public class EC2CredentialPublicKey extends AbstractCredentialPublicKey implemen
     }
 
     @Override
-    public PublicKey getPublicKey() {
+    protected PublicKey createPublicKey() {
         ECPoint ecPoint = new ECPoint(
-                new BigInteger(1, getX()),
-                new BigInteger(1, getY())
+                new BigInteger(1, x),
+                new BigInteger(1, y)
         );
         ECPublicKeySpec spec = new ECPublicKeySpec(ecPoint, curve.getECParameterSpec());
 
@@ -74,10 +74,10 @@ public class RSACredentialPublicKey extends AbstractCredentialPublicKey {
     }
 
     @Override
-    public PublicKey getPublicKey() {
+    protected PublicKey createPublicKey() {
         RSAPublicKeySpec spec = new RSAPublicKeySpec(
-                new BigInteger(1, getN()),
-                new BigInteger(1, getE())
+                new BigInteger(1, n),
+                new BigInteger(1, e)
         );
         return RSAUtil.createPublicKey(spec);
     }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.response.client.challenge.Challenge;
+
+/**
+ * Stores challenges issued to clients until they are consumed by a ceremony, so that a challenge cannot be replayed
+ */
+public interface ChallengeRepository {
+
+    /**
+     * Generates a new challenge and stores it
+     *
+     * @return issued challenge
+     */
+    Challenge issue();
+
+    /**
+     * Stores a challenge generated by the caller
+     *
+     * @param challenge challenge
+     */
+    void save(Challenge challenge);
+
+    /**
+     * Removes the challenge atomically, so that only one of concurrent callers can consume it
+     *
+     * @param challenge challenge
+     * @return true if the challenge was outstanding and has not expired
+     */
+    boolean consume(Challenge challenge);
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.response.client.challenge.Challenge;
+import com.webauthn4j.response.client.challenge.DefaultChallenge;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.ByteArrayKey;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * {@link ChallengeRepository} which stores challenges in memory
+ * <p>
+ * Challenges are spread over lock-striped shards, and each shard keeps a ring of time buckets instead of per-challenge
+ * timers. A challenge is stored in the bucket of the time it was issued, and a bucket is dropped as a whole when it
+ * gets older than the timeout, so that issuing and consuming are O(1). A challenge expires between the timeout and
+ * the timeout plus the bucket width after it was issued. Memory is bounded by the maximum size: when a shard is full,
+ * its oldest bucket is dropped.
+ */
+public class InMemoryChallengeRepository implements ChallengeRepository {
+
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(5);
+    public static final int DEFAULT_MAXIMUM_SIZE = 1_000_000;
+    public static final int DEFAULT_BUCKET_COUNT = 10;
+    private static final int SHARD_COUNT = 64;
+
+    //~ Instance fields
+    // ================================================================================================
+
+    private final Clock clock;
+    private final long bucketWidthMillis;
+    private final int bucketCount;
+    private final Shard[] shards;
+
+    public InMemoryChallengeRepository(Duration timeout, int maximumSize, int bucketCount, Clock clock) {
+        AssertUtil.notNull(timeout, "timeout must not be null");
+        AssertUtil.isTrue(maximumSize > 0, "maximumSize must be positive");
+        AssertUtil.isTrue(bucketCount > 0, "bucketCount must be positive");
+        AssertUtil.isTrue(timeout.toMillis() >= bucketCount, "timeout must be at least bucketCount milliseconds");
+        AssertUtil.notNull(clock, "clock must not be null");
+        this.clock = clock;
+        this.bucketWidthMillis = timeout.toMillis() / bucketCount;
+        this.bucketCount = bucketCount;
+        this.shards = new Shard[SHARD_COUNT];
+        int shardCapacity = Math.max(1, (maximumSize + SHARD_COUNT - 1) / SHARD_COUNT);
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard(bucketCount + 1, shardCapacity);
+        }
+    }
+
+    public InMemoryChallengeRepository(Duration timeout, int maximumSize) {
+        this(timeout, maximumSize, DEFAULT_BUCKET_COUNT, Clock.systemUTC());
+    }
+
+    public InMemoryChallengeRepository() {
+        this(DEFAULT_TIMEOUT, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    @Override
+    public Challenge issue() {
+        Challenge challenge = new DefaultChallenge();
+        save(challenge);
+        return challenge;
+    }
+
+    @Override
+    public void save(Challenge challenge) {
+        AssertUtil.notNull(challenge, "challenge must not be null");
+        ByteArrayKey key = ByteArrayKey.wrap(challenge.getValue());
+        getShard(key).add(key, currentEpoch(), bucketCount);
+    }
+
+    @Override
+    public boolean consume(Challenge challenge) {
+        AssertUtil.notNull(challenge, "challenge must not be null");
+        ByteArrayKey key = ByteArrayKey.wrap(challenge.getValue());
+        return getShard(key).remove(key, currentEpoch(), bucketCount);
+    }
+
+    /**
+     * Returns the number of outstanding challenges, which may include expired ones not dropped yet
+     *
+     * @return number of challenges
+     */
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    private long currentEpoch() {
+        return clock.millis() / bucketWidthMillis;
+    }
+
+    private Shard getShard(ByteArrayKey key) {
+        int hash = key.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (SHARD_COUNT - 1)];
+    }
+
+    private static class Shard {
+
+        private final long[] epochs;
+        private final Set<ByteArrayKey>[] buckets;
+        private final int capacity;
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        Shard(int ringSize, int capacity) {
+            this.epochs = new long[ringSize];
+            this.buckets = new Set[ringSize];
+            for (int i = 0; i < ringSize; i++) {
+                epochs[i] = Long.MIN_VALUE;
+                buckets[i] = new HashSet<>();
+            }
+            this.capacity = capacity;
+        }
+
+        synchronized void add(ByteArrayKey key, long epoch, int bucketCount) {
+            expire(epoch, bucketCount);
+            int slot = (int) Math.floorMod(epoch, (long) buckets.length);
+            if (epochs[slot] != epoch) {
+                clear(slot);
+                epochs[slot] = epoch;
+            }
+            while (size >= capacity) {
+                clear(oldestSlot());
+            }
+            if (buckets[slot].add(key)) {
+                size++;
+            }
+        }
+
+        synchronized boolean remove(ByteArrayKey key, long epoch, int bucketCount) {
+            expire(epoch, bucketCount);
+            for (int i = 0; i < buckets.length; i++) {
+                if (buckets[i].remove(key)) {
+                    size--;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        /**
+         * Drops buckets older than the timeout
+         */
+        private void expire(long epoch, int bucketCount) {
+            for (int i = 0; i < buckets.length; i++) {
+                if (epochs[i] < epoch - bucketCount && !buckets[i].isEmpty()) {
+                    clear(i);
+                }
+            }
+        }
+
+        private int oldestSlot() {
+            int oldest = -1;
+            for (int i = 0; i < buckets.length; i++) {
+                if (!buckets[i].isEmpty() && (oldest == -1 || epochs[i] < epochs[oldest])) {
+                    oldest = i;
+                }
+            }
+            return oldest;
+        }
+
+        private void clear(int slot) {
+            size -= buckets[slot].size();
+            // a new set is allocated, as HashSet.clear() keeps the capacity of the largest burst
+            buckets[slot] = new HashSet<>();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.response.client.Origin;
+import com.webauthn4j.util.ArrayUtil;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.MessageDigestUtil;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable relying party settings shared by every ceremony, which holds the rpIdHash computed once on construction
+ */
+public class RelyingPartyConfig implements Serializable {
+
+    private final String rpId;
+    private final byte[] rpIdHash;
+    private final Set<Origin> origins;
+
+    public RelyingPartyConfig(String rpId, Set<Origin> origins) {
+        AssertUtil.notNull(rpId, "rpId must not be null");
+        AssertUtil.notNull(origins, "origins must not be null");
+        AssertUtil.isTrue(!origins.isEmpty(), "origins must not be empty");
+        this.rpId = rpId;
+        this.rpIdHash = MessageDigestUtil.digestSHA256(rpId.getBytes(StandardCharsets.UTF_8));
+        this.origins = Collections.unmodifiableSet(new HashSet<>(origins));
+    }
+
+    public RelyingPartyConfig(String rpId, Origin origin) {
+        this(rpId, Collections.singleton(origin));
+    }
+
+    public String getRpId() {
+        return rpId;
+    }
+
+    /**
+     * Returns the SHA-256 hash of the UTF-8 encoded rpId
+     *
+     * @return rpIdHash
+     */
+    public byte[] getRpIdHash() {
+        return ArrayUtil.clone(rpIdHash);
+    }
+
+    /**
+     * Returns the origins accepted by the relying party
+     *
+     * @return unmodifiable set of origins
+     */
+    public Set<Origin> getOrigins() {
+        return origins;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RelyingPartyConfig that = (RelyingPartyConfig) o;
+        return Objects.equals(rpId, that.rpId) &&
+                Objects.equals(origins, that.origins);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rpId, origins);
+    }
+}
@@ -18,10 +18,16 @@ package com.webauthn4j.server;
 
 import com.webauthn4j.response.client.Origin;
 import com.webauthn4j.response.client.challenge.Challenge;
+import com.webauthn4j.util.ArrayUtil;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.MessageDigestUtil;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * ServerProperty
@@ -29,25 +35,66 @@ import java.util.Objects;
 public class ServerProperty implements Serializable {
 
     private final Origin origin;
+    private final Set<Origin> origins;
     private final String rpId;
+    private final byte[] rpIdHash;
     private final Challenge challenge;
     private final byte[] tokenBindingId;
 
     public ServerProperty(Origin origin, String rpId, Challenge challenge, byte[] tokenBindingId) {
         this.origin = origin;
+        this.origins = origin == null ? Collections.emptySet() : Collections.singleton(origin);
         this.rpId = rpId;
+        this.rpIdHash = rpId == null ? null : MessageDigestUtil.digestSHA256(rpId.getBytes(StandardCharsets.UTF_8));
         this.challenge = challenge;
         this.tokenBindingId = tokenBindingId;
     }
 
+    /**
+     * Creates a {@link ServerProperty} taking the rpIdHash and origins precomputed by the {@link RelyingPartyConfig},
+     * which can be shared by every ceremony of the relying party
+     */
+    public ServerProperty(RelyingPartyConfig relyingPartyConfig, Challenge challenge, byte[] tokenBindingId) {
+        AssertUtil.notNull(relyingPartyConfig, "relyingPartyConfig must not be null");
+        this.origins = relyingPartyConfig.getOrigins();
+        this.origin = origins.size() == 1 ? origins.iterator().next() : null;
+        this.rpId = relyingPartyConfig.getRpId();
+        this.rpIdHash = relyingPartyConfig.getRpIdHash();
+        this.challenge = challenge;
+        this.tokenBindingId = tokenBindingId;
+    }
+
+    /**
+     * Returns the origin of the relying party
+     *
+     * @return origin, or null if it is not specified or multiple origins are accepted
+     */
     public Origin getOrigin() {
         return origin;
     }
 
+    /**
+     * Returns the origins accepted by the relying party
+     *
+     * @return unmodifiable set of origins
+     */
+    public Set<Origin> getOrigins() {
+        return origins;
+    }
+
     public String getRpId() {
         return rpId;
     }
 
+    /**
+     * Returns the SHA-256 hash of the UTF-8 encoded rpId
+     *
+     * @return rpIdHash, or null if rpId is null
+     */
+    public byte[] getRpIdHash() {
+        return ArrayUtil.clone(rpIdHash);
+    }
+
     public Challenge getChallenge() {
         return challenge;
     }
@@ -61,7 +108,7 @@ public class ServerProperty implements Serializable {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         ServerProperty that = (ServerProperty) o;
-        return Objects.equals(origin, that.origin) &&
+        return Objects.equals(origins, that.origins) &&
                 Objects.equals(rpId, that.rpId) &&
                 Objects.equals(challenge, that.challenge) &&
                 Arrays.equals(tokenBindingId, that.tokenBindingId);
@@ -70,7 +117,7 @@ public class ServerProperty implements Serializable {
     @Override
     public int hashCode() {
 
-        int result = Objects.hash(origin, rpId, challenge);
+        int result = Objects.hash(origins, rpId, challenge);
         result = 31 * result + Arrays.hashCode(tokenBindingId);
         return result;
     }
@@ -18,19 +18,43 @@ package com.webauthn4j.util.jws;
 
 import com.webauthn4j.converter.util.JsonConverter;
 import com.webauthn4j.util.Base64UrlUtil;
+import com.webauthn4j.util.CryptoPrimitivePool;
 import com.webauthn4j.util.SignatureUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.Serializable;
+import java.io.*;
 import java.security.InvalidKeyException;
 import java.security.PublicKey;
 import java.security.Signature;
 import java.security.SignatureException;
 import java.security.interfaces.ECPublicKey;
-
+import java.util.Base64;
+
+/**
+ * JSON Web Signature in compact serialization
+ * <p>
+ * The compact serialization is kept as is, and its segments are located by their offsets instead of being copied.
+ * The payload is base64url decoded into the JSON parser incrementally, and the signing input is fed to the
+ * {@link Signature} in chunks, so that a large JWS like the FIDO MDS TOC is not duplicated in memory while being processed.
+ * <p>
+ * The serialized form keeps the header and payload segments as separate strings, as in the earlier versions,
+ * so that persisted attestation statements embedding a JWS stay readable.
+ */
 public class JWS<T extends Serializable> implements Serializable {
 
+    private static final long serialVersionUID = -770290497161442609L;
+
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("header", JWSHeader.class),
+            new ObjectStreamField("payload", Serializable.class),
+            new ObjectStreamField("signature", byte[].class),
+            new ObjectStreamField("headerString", String.class),
+            new ObjectStreamField("payloadString", String.class)
+    };
+
+    private static final int BUFFER_SIZE = 8192;
+
     transient Logger logger = LoggerFactory.getLogger(JWS.class);
 
     private JWSHeader header;
@@ -39,29 +63,36 @@ public class JWS<T extends Serializable> implements Serializable {
 
     private byte[] signature;
 
-    private String headerString;
-    private String payloadString;
+    private String value;
+    private int firstPeriod;
+    private int secondPeriod;
 
     public static <T extends Serializable> JWS<T> parse(String value, JsonConverter jsonConverter, Class<T> type){
-        String[] data = value.split("\\.");
-        if (data.length != 3) {
+        int firstPeriod = value.indexOf('.');
+        int secondPeriod = firstPeriod == -1 ? -1 : value.indexOf('.', firstPeriod + 1);
+        if (secondPeriod == -1 || value.indexOf('.', secondPeriod + 1) != -1 || secondPeriod == value.length() - 1) {
             throw new IllegalArgumentException("JWS value is not divided by two period.");
         }
-        String headerString = data[0];
-        String payloadString = data[1];
-        String signatureString = data[2];
-        JWSHeader header = jsonConverter.readValue(new String(Base64UrlUtil.decode(headerString)), JWSHeader.class);
-        T payload = jsonConverter.readValue(new String(Base64UrlUtil.decode(payloadString)), type);
-        byte[] signature = Base64UrlUtil.decode(signatureString);
-        return new JWS<>(header, headerString, payload, payloadString, signature);
+        JWSHeader header = jsonConverter.readValue(Base64UrlUtil.decode(value.substring(0, firstPeriod)), JWSHeader.class);
+        T payload;
+        try {
+            InputStream payloadStream = Base64.getUrlDecoder().wrap(new AsciiInputStream(value, firstPeriod + 1, secondPeriod));
+            payload = jsonConverter.readValue(payloadStream, type);
+        } catch (UncheckedIOException e) {
+            // the source is in memory, so I/O errors can only be caused by invalid base64url encoding
+            throw new IllegalArgumentException("JWS payload is not base64url encoded.", e);
+        }
+        byte[] signature = Base64UrlUtil.decode(value.substring(secondPeriod + 1));
+        return new JWS<>(header, payload, signature, value, firstPeriod, secondPeriod);
     }
 
-    private JWS(JWSHeader header, String headerString, T payload, String payloadString, byte[] signature) {
+    private JWS(JWSHeader header, T payload, byte[] signature, String value, int firstPeriod, int secondPeriod) {
         this.header = header;
         this.payload = payload;
         this.signature = signature;
-        this.headerString = headerString;
-        this.payloadString = payloadString;
+        this.value = value;
+        this.firstPeriod = firstPeriod;
+        this.secondPeriod = secondPeriod;
     }
 
     public JWSHeader getHeader() {
@@ -69,7 +100,7 @@ public class JWS<T extends Serializable> implements Serializable {
     }
 
     public String getHeaderString() {
-        return headerString;
+        return value.substring(0, firstPeriod);
     }
 
     public T getPayload() {
@@ -77,7 +108,7 @@ public class JWS<T extends Serializable> implements Serializable {
     }
 
     public String getPayloadString() {
-        return payloadString;
+        return value.substring(firstPeriod + 1, secondPeriod);
     }
 
     public byte[] getSignature() {
@@ -85,12 +116,11 @@ public class JWS<T extends Serializable> implements Serializable {
     }
 
     public boolean isValidSignature() {
-        String signedData = headerString + "." + payloadString;
-        try {
-            Signature signatureObj = SignatureUtil.createSignature(header.getAlg().getJcaName());
+        try (CryptoPrimitivePool.Lease<Signature> lease = SignatureUtil.borrowSignature(header.getAlg().getJcaName())) {
+            Signature signatureObj = lease.get();
             PublicKey publicKey = header.getX5c().getEndEntityAttestationCertificate().getCertificate().getPublicKey();
             signatureObj.initVerify(publicKey);
-            signatureObj.update(signedData.getBytes());
+            updateSigningInput(signatureObj);
             byte[] sig;
             if(publicKey instanceof ECPublicKey){
                 sig = JWSSignatureUtil.convertJWSSignatureToDerSignature(signature);
@@ -105,5 +135,113 @@ public class JWS<T extends Serializable> implements Serializable {
         }
     }
 
+    /**
+     * Feeds the signing input, that is the header and payload segments joined by a period, to the signature in chunks
+     */
+    private void updateSigningInput(Signature signatureObj) throws SignatureException {
+        byte[] buffer = new byte[Math.min(BUFFER_SIZE, secondPeriod)];
+        int position = 0;
+        while (position < secondPeriod) {
+            int length = Math.min(buffer.length, secondPeriod - position);
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(position + i);
+                if (c > 0x7F) {
+                    throw new SignatureException("JWS signing input contains a non-ASCII character.");
+                }
+                buffer[i] = (byte) c;
+            }
+            signatureObj.update(buffer, 0, length);
+            position += length;
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("header", header);
+        fields.put("payload", payload);
+        fields.put("signature", signature);
+        fields.put("headerString", getHeaderString());
+        fields.put("payloadString", getPayloadString());
+        out.writeFields();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        String headerString = (String) fields.get("headerString", null);
+        String payloadString = (String) fields.get("payloadString", null);
+        byte[] signatureBytes = (byte[]) fields.get("signature", null);
+        if (headerString == null || payloadString == null || signatureBytes == null ||
+                headerString.indexOf('.') != -1 || payloadString.indexOf('.') != -1 || !isAscii(headerString) || !isAscii(payloadString)) {
+            throw new InvalidObjectException("JWS segments are invalid.");
+        }
+        this.header = (JWSHeader) fields.get("header", null);
+        this.payload = (T) fields.get("payload", null);
+        this.signature = signatureBytes;
+        this.value = headerString + "." + payloadString + "." + Base64UrlUtil.encodeToString(signatureBytes);
+        this.firstPeriod = headerString.length();
+        this.secondPeriod = firstPeriod + 1 + payloadString.length();
+        this.logger = LoggerFactory.getLogger(JWS.class);
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@link InputStream} over a region of a string consisting of ASCII characters
+     */
+    private static class AsciiInputStream extends InputStream {
+
+        private final String value;
+        private final int end;
+        private int position;
+
+        AsciiInputStream(String value, int start, int end) {
+            this.value = value;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return position < end ? toAscii(value.charAt(position++)) : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (position >= end) {
+                return -1;
+            }
+            int length = Math.min(len, end - position);
+            for (int i = 0; i < length; i++) {
+                b[off + i] = (byte) toAscii(value.charAt(position + i));
+            }
+            position += length;
+            return length;
+        }
 
+        /**
+         * Rejects non-ASCII characters, which would otherwise be truncated into valid base64url characters
+         */
+        private static int toAscii(char c) throws IOException {
+            if (c > 0x7F) {
+                throw new IOException("JWS contains a non-ASCII character.");
+            }
+            return c;
+        }
+
+        @Override
+        public int available() {
+            return end - position;
+        }
+    }
 }
@@ -22,7 +22,6 @@ import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.validator.exception.BadSignatureException;
 
 import java.nio.ByteBuffer;
-import java.security.MessageDigest;
 
 /**
  * Validates the assertion signature in {@link WebAuthnAuthenticationContext} based on {@link CredentialPublicKey}
@@ -41,9 +40,8 @@ class AssertionSignatureValidator {
     }
 
     private byte[] getSignedData(WebAuthnAuthenticationContext webAuthnAuthenticationContext) {
-        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
         byte[] rawAuthenticatorData = webAuthnAuthenticationContext.getAuthenticatorData();
-        byte[] clientDataHash = messageDigest.digest(webAuthnAuthenticationContext.getClientDataJSON());
+        byte[] clientDataHash = MessageDigestUtil.digestSHA256(webAuthnAuthenticationContext.getClientDataJSON());
         return ByteBuffer.allocate(rawAuthenticatorData.length + clientDataHash.length).put(rawAuthenticatorData).put(clientDataHash).array();
     }
 
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.validator;
+
+import com.webauthn4j.authenticator.AsyncAuthenticatorLookup;
+import com.webauthn4j.authenticator.AsyncCounterUpdater;
+import com.webauthn4j.authenticator.Authenticator;
+import com.webauthn4j.response.WebAuthnAuthenticationContext;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.validator.exception.CredentialNotFoundException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Validates the specified {@link WebAuthnAuthenticationContext} instance without blocking on credential storage
+ * <p>
+ * The {@link Authenticator} is looked up through {@link AsyncAuthenticatorLookup} while the client data and
+ * authenticator data are parsed and validated on the executor. The signature is verified once both are done, and a new
+ * signature counter value is stored by compare-and-set through {@link AsyncCounterUpdater} instead of {@link Authenticator#setCounter(long)}.
+ * The {@link com.webauthn4j.authenticator.SignatureCounterStore} of the underlying validator is not used, as it blocks.
+ * Validation steps run on the specified executor, so that request threads are never blocked.
+ */
+public class AsyncWebAuthnAuthenticationContextValidator {
+
+    //~ Instance fields
+    // ================================================================================================
+
+    private final WebAuthnAuthenticationContextValidator authenticationContextValidator;
+    private final AsyncAuthenticatorLookup authenticatorLookup;
+    private final AsyncCounterUpdater counterUpdater;
+    private final Executor executor;
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    public AsyncWebAuthnAuthenticationContextValidator(WebAuthnAuthenticationContextValidator authenticationContextValidator,
+                                                       AsyncAuthenticatorLookup authenticatorLookup,
+                                                       AsyncCounterUpdater counterUpdater,
+                                                       Executor executor) {
+        AssertUtil.notNull(authenticationContextValidator, "authenticationContextValidator must not be null");
+        AssertUtil.notNull(authenticatorLookup, "authenticatorLookup must not be null");
+        AssertUtil.notNull(counterUpdater, "counterUpdater must not be null");
+        AssertUtil.notNull(executor, "executor must not be null");
+        this.authenticationContextValidator = authenticationContextValidator;
+        this.authenticatorLookup = authenticatorLookup;
+        this.counterUpdater = counterUpdater;
+        this.executor = executor;
+    }
+
+    public AsyncWebAuthnAuthenticationContextValidator(AsyncAuthenticatorLookup authenticatorLookup,
+                                                       AsyncCounterUpdater counterUpdater,
+                                                       Executor executor) {
+        this(new WebAuthnAuthenticationContextValidator(), authenticatorLookup, counterUpdater, executor);
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Validates the specified {@link WebAuthnAuthenticationContext}
+     *
+     * @param authenticationContext authentication context
+     * @return stage completed with the validation response, or completed exceptionally with the validation failure
+     */
+    public CompletionStage<WebAuthnAuthenticationContextValidationResponse> validate(WebAuthnAuthenticationContext authenticationContext) {
+        CompletionStage<Authenticator> authenticatorStage;
+        try {
+            BeanAssertUtil.validate(authenticationContext);
+            authenticatorStage = authenticatorLookup.lookup(authenticationContext.getCredentialId());
+        } catch (RuntimeException e) {
+            CompletableFuture<WebAuthnAuthenticationContextValidationResponse> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+
+        return CompletableFuture
+                .supplyAsync(() -> authenticationContextValidator.validateWithoutAuthenticator(authenticationContext), executor)
+                .thenCombineAsync(authenticatorStage, (response, authenticator) -> verify(authenticationContext, response, authenticator), executor)
+                .thenCompose(Function.identity());
+    }
+
+    private CompletionStage<WebAuthnAuthenticationContextValidationResponse> verify(WebAuthnAuthenticationContext authenticationContext,
+                                                                                    WebAuthnAuthenticationContextValidationResponse response,
+                                                                                    Authenticator authenticator) {
+        if (authenticator == null) {
+            throw new CredentialNotFoundException("Credential not found");
+        }
+        authenticationContextValidator.validateSignature(authenticationContext, authenticator);
+        authenticationContextValidator.consumeChallenge(authenticationContext);
+        return updateCounter(authenticationContext, response, authenticator);
+    }
+
+    /**
+     * Stores the presented counter by compare-and-set, and checks it again against the stored counter when a concurrent
+     * authentication advanced it first
+     */
+    private CompletionStage<WebAuthnAuthenticationContextValidationResponse> updateCounter(WebAuthnAuthenticationContext authenticationContext,
+                                                                                           WebAuthnAuthenticationContextValidationResponse response,
+                                                                                           Authenticator authenticator) {
+        long presentedCounter = response.getAuthenticatorData().getSignCount();
+        long storedCounter = authenticator.getCounter();
+        if (!authenticationContextValidator.isCounterUpdateRequired(authenticationContext, presentedCounter, storedCounter, authenticator)) {
+            return CompletableFuture.completedFuture(response);
+        }
+        byte[] credentialId = authenticationContext.getCredentialId();
+        return counterUpdater.updateCounter(credentialId, authenticator, storedCounter, presentedCounter)
+                .thenComposeAsync(updated -> {
+                    if (updated) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    return authenticatorLookup.lookup(credentialId).thenComposeAsync(current -> {
+                        if (current == null) {
+                            throw new CredentialNotFoundException("Credential not found");
+                        }
+                        return updateCounter(authenticationContext, response, current);
+                    }, executor);
+                }, executor);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.validator;
+
+import com.webauthn4j.util.AssertUtil;
+
+/**
+ * Result of validating one of the contexts passed to a batch validation method.
+ * It holds either the validation response or the exception which made the validation fail.
+ *
+ * @param <T> validation response type
+ */
+public class BatchValidationResult<T> {
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final T response;
+    private final RuntimeException exception;
+
+    private BatchValidationResult(T response, RuntimeException exception) {
+        this.response = response;
+        this.exception = exception;
+    }
+
+    public static <T> BatchValidationResult<T> success(T response) {
+        AssertUtil.notNull(response, "response must not be null");
+        return new BatchValidationResult<>(response, null);
+    }
+
+    public static <T> BatchValidationResult<T> failure(RuntimeException exception) {
+        AssertUtil.notNull(exception, "exception must not be null");
+        return new BatchValidationResult<>(null, exception);
+    }
+
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * Returns the validation response
+     *
+     * @return validation response, or null if the validation failed
+     */
+    public T getResponse() {
+        return response;
+    }
+
+    /**
+     * Returns the exception which made the validation fail
+     *
+     * @return exception, or null if the validation succeeded
+     */
+    public RuntimeException getException() {
+        return exception;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.validator;
+
+import com.webauthn4j.util.AssertUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.IntFunction;
+
+/**
+ * Shared logic of the batch validation methods of the context validators
+ */
+class BatchValidationSupport {
+
+    private BatchValidationSupport() {
+    }
+
+    /**
+     * Runs the validation of each index on the executor
+     *
+     * @param size       number of contexts
+     * @param validation validation of the context at the specified index
+     * @param executor   executor to run validations
+     * @param <T>        validation response type
+     * @return future completed with the results in the order of the contexts, once all of them are validated
+     */
+    static <T> CompletableFuture<List<BatchValidationResult<T>>> validateAll(int size, IntFunction<T> validation, Executor executor) {
+        AssertUtil.notNull(executor, "executor must not be null");
+        List<CompletableFuture<BatchValidationResult<T>>> futures = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int index = i;
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> validate(validation, index), executor));
+            } catch (RejectedExecutionException e) {
+                futures.add(CompletableFuture.completedFuture(BatchValidationResult.failure(e)));
+            }
+        }
+        // validation exceptions are captured in the results, so the future completes exceptionally only on errors
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            List<BatchValidationResult<T>> results = new ArrayList<>(size);
+            for (CompletableFuture<BatchValidationResult<T>> future : futures) {
+                results.add(future.join());
+            }
+            return results;
+        });
+    }
+
+    private static <T> BatchValidationResult<T> validate(IntFunction<T> validation, int index) {
+        try {
+            return BatchValidationResult.success(validation.apply(index));
+        } catch (RuntimeException e) {
+            return BatchValidationResult.failure(e);
+        }
+    }
+}
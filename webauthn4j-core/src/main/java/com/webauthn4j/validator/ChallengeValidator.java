@@ -18,6 +18,7 @@ package com.webauthn4j.validator;
 
 import com.webauthn4j.response.client.CollectedClientData;
 import com.webauthn4j.response.client.challenge.Challenge;
+import com.webauthn4j.server.ChallengeRepository;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.validator.exception.BadChallengeException;
@@ -37,6 +38,8 @@ class ChallengeValidator {
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
+    private ChallengeRepository challengeRepository;
+
     // ~ Methods
     // ========================================================================================================
 
@@ -54,7 +57,22 @@ class ChallengeValidator {
         // Verify that the challenge member of the collectedClientData matches the challenge that was sent to
         // the authenticator in the PublicKeyCredentialRequestOptions passed to the get() call.
         validate(savedChallenge, collectedChallenge);
+    }
 
+    /**
+     * Consumes the challenge of the specified {@link ServerProperty} from the challenge repository, if it is set.
+     * <p>
+     * As clientDataJSON is not authenticated until the signature over it is verified, this must be called only after
+     * the signature or the attestation is verified, so that forged client data cannot consume a challenge.
+     *
+     * @param serverProperty server property
+     */
+    public void consume(ServerProperty serverProperty) {
+        AssertUtil.notNull(serverProperty, "serverProperty must not be null");
+        if (challengeRepository != null && !challengeRepository.consume(serverProperty.getChallenge())) {
+            logger.debug("Authentication failed: challenge is already used or expired");
+            throw new BadChallengeException("Challenge is already used or expired");
+        }
     }
 
     public void validate(Challenge expected, Challenge actual) {
@@ -68,4 +86,17 @@ class ChallengeValidator {
             throw new BadChallengeException("Bad challenge");
         }
     }
+
+    public ChallengeRepository getChallengeRepository() {
+        return challengeRepository;
+    }
+
+    /**
+     * Sets the repository of issued challenges, from which {@link #consume(ServerProperty)} consumes challenges. Null disables it.
+     *
+     * @param challengeRepository challenge repository
+     */
+    public void setChallengeRepository(ChallengeRepository challengeRepository) {
+        this.challengeRepository = challengeRepository;
+    }
 }
@@ -24,8 +24,6 @@ import com.webauthn4j.validator.exception.BadOriginException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Objects;
-
 /**
  * Validates the specified {@link Origin} instance
  */
@@ -43,7 +41,7 @@ class OriginValidator {
         AssertUtil.notNull(collectedClientData, "collectedClientData must not be null");
         AssertUtil.notNull(serverProperty, "serverProperty must not be null");
 
-        if (!Objects.equals(collectedClientData.getOrigin(), serverProperty.getOrigin())) {
+        if (!serverProperty.getOrigins().contains(collectedClientData.getOrigin())) {
             logger.debug("Authentication failed: bad origin is specified");
             throw new BadOriginException("Bad origin");
         }
@@ -18,13 +18,10 @@ package com.webauthn4j.validator;
 
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.util.AssertUtil;
-import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.validator.exception.BadRpIdException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
 import java.util.Arrays;
 
 /**
@@ -45,9 +42,7 @@ class RpIdHashValidator {
         String rpId = serverProperty.getRpId();
         AssertUtil.notNull(rpId, "rpId must not be null");
 
-        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
-        byte[] relyingPartyRpIdBytes = rpId.getBytes(StandardCharsets.UTF_8);
-        byte[] relyingPartyRpIdHash = messageDigest.digest(relyingPartyRpIdBytes);
+        byte[] relyingPartyRpIdHash = serverProperty.getRpIdHash();
         if (!Arrays.equals(rpIdHash, relyingPartyRpIdHash)) {
             logger.debug("Authentication failed: bad rpId is specified");
             throw new BadRpIdException("Bad rpId");
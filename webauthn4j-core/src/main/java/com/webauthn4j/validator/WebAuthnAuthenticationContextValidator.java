@@ -17,6 +17,7 @@
 package com.webauthn4j.validator;
 
 import com.webauthn4j.authenticator.Authenticator;
+import com.webauthn4j.authenticator.SignatureCounterStore;
 import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
 import com.webauthn4j.converter.AuthenticatorDataConverter;
 import com.webauthn4j.converter.CollectedClientDataConverter;
@@ -30,6 +31,7 @@ import com.webauthn4j.response.extension.authenticator.AuthenticationExtensionAu
 import com.webauthn4j.response.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
 import com.webauthn4j.response.extension.client.AuthenticationExtensionsClientOutputs;
 import com.webauthn4j.response.extension.client.ExtensionClientOutput;
+import com.webauthn4j.server.ChallengeRepository;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.validator.exception.MaliciousDataException;
@@ -40,6 +42,8 @@ import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Validates the specified {@link WebAuthnAuthenticationContext} instance
@@ -62,12 +66,15 @@ public class WebAuthnAuthenticationContextValidator {
     private final ExtensionValidator extensionValidator = new ExtensionValidator();
 
     private MaliciousCounterValueHandler maliciousCounterValueHandler = new DefaultMaliciousCounterValueHandler();
+    private SignatureCounterStore signatureCounterStore;
 
     // ~ Constructor
     // ========================================================================================================
 
     public WebAuthnAuthenticationContextValidator() {
         this(new JsonConverter(), new CborConverter());
+        // the JsonConverter is owned by this validator, so no custom data binding can be registered for clientDataJSON
+        collectedClientDataConverter.setStreamingParseEnabled(true);
     }
 
     public WebAuthnAuthenticationContextValidator(JsonConverter jsonConverter, CborConverter cborConverter) {
@@ -80,8 +87,40 @@ public class WebAuthnAuthenticationContextValidator {
     // ========================================================================================================
 
     public WebAuthnAuthenticationContextValidationResponse validate(WebAuthnAuthenticationContext authenticationContext, Authenticator authenticator) {
-
         BeanAssertUtil.validate(authenticationContext);
+        WebAuthnAuthenticationContextValidationResponse response = validateWithoutAuthenticator(authenticationContext);
+        validateSignature(authenticationContext, authenticator);
+        consumeChallenge(authenticationContext);
+        updateCounter(authenticationContext, response.getAuthenticatorData().getSignCount(), authenticator);
+        return response;
+    }
+
+    /**
+     * Validates the specified {@link WebAuthnAuthenticationContext}s concurrently on the specified executor, without blocking the caller.
+     * A failed validation doesn't fail the batch, but is reported in its result. As signature counters are updated
+     * as in {@link #validate(WebAuthnAuthenticationContext, Authenticator)}, an {@link Authenticator} should not appear
+     * more than once in a batch.
+     *
+     * @param authenticationContexts authentication contexts
+     * @param authenticators         authenticators, in the same order as authenticationContexts
+     * @param executor               executor to run validations
+     * @return future completed with the validation results once all of them are validated, in the same order as authenticationContexts
+     */
+    public CompletableFuture<List<BatchValidationResult<WebAuthnAuthenticationContextValidationResponse>>> validateAll(
+            List<WebAuthnAuthenticationContext> authenticationContexts, List<Authenticator> authenticators, Executor executor) {
+        AssertUtil.notNull(authenticationContexts, "authenticationContexts must not be null");
+        AssertUtil.notNull(authenticators, "authenticators must not be null");
+        AssertUtil.isTrue(authenticationContexts.size() == authenticators.size(), "authenticators must be as many as authenticationContexts");
+
+        return BatchValidationSupport.validateAll(authenticationContexts.size(),
+                index -> validate(authenticationContexts.get(index), authenticators.get(index)), executor);
+    }
+
+    /**
+     * Validates the steps which don't depend on the stored {@link Authenticator}, so that they can run while it is looked up.
+     * The context itself must already be validated by {@link BeanAssertUtil#validate(WebAuthnAuthenticationContext)}.
+     */
+    WebAuthnAuthenticationContextValidationResponse validateWithoutAuthenticator(WebAuthnAuthenticationContext authenticationContext) {
 
         // Let cData, aData and sig denote the value of credential’s response's clientDataJSON, authenticatorData,
         // and signature respectively.
@@ -143,27 +182,62 @@ public class WebAuthnAuthenticationContextValidator {
         List<String> expectedExtensionIdentifiers = authenticationContext.getExpectedExtensionIds();
         extensionValidator.validate(authenticationExtensionsClientOutputs, authenticationExtensionsAuthenticatorOutputs, expectedExtensionIdentifiers);
 
+        return new WebAuthnAuthenticationContextValidationResponse(collectedClientData, authenticatorData, authenticationExtensionsClientOutputs);
+    }
+
+    void validateSignature(WebAuthnAuthenticationContext authenticationContext, Authenticator authenticator) {
         // Using the credential public key, validate that sig is a valid signature over
         // the binary concatenation of the authenticatorData and the hash of the collectedClientData.
         assertionSignatureValidator.validate(authenticationContext, authenticator.getAttestedCredentialData().getCredentialPublicKey());
+    }
+
+    /**
+     * Consumes the challenge, which must be done only once the signature over the client data is verified
+     */
+    void consumeChallenge(WebAuthnAuthenticationContext authenticationContext) {
+        challengeValidator.consume(authenticationContext.getServerProperty());
+    }
+
+    /**
+     * Stores the presented signature counter, to the {@link SignatureCounterStore} by compare-and-set if it is set,
+     * or to the {@link Authenticator} otherwise
+     */
+    private void updateCounter(WebAuthnAuthenticationContext authenticationContext, long presentedCounter, Authenticator authenticator) {
+        if (signatureCounterStore == null) {
+            if (isCounterUpdateRequired(authenticationContext, presentedCounter, authenticator.getCounter(), authenticator)) {
+                authenticator.setCounter(presentedCounter);
+            }
+            return;
+        }
+        byte[] credentialId = authenticationContext.getCredentialId();
+        long storedCounter = signatureCounterStore.getCounter(credentialId, authenticator);
+        // a concurrent authentication may advance the stored counter first, in which case it is checked again
+        while (isCounterUpdateRequired(authenticationContext, presentedCounter, storedCounter, authenticator)
+                && !signatureCounterStore.compareAndSet(credentialId, storedCounter, presentedCounter)) {
+            storedCounter = signatureCounterStore.getCounter(credentialId, authenticator);
+        }
+    }
 
+    /**
+     * Checks the presented signature counter against the stored one
+     *
+     * @return true if the presented counter should be stored
+     */
+    boolean isCounterUpdateRequired(WebAuthnAuthenticationContext authenticationContext, long presentedCounter, long storedCounter, Authenticator authenticator) {
         // If the signature counter value adata.signCount is nonzero or the value stored in conjunction with
         // credential’s id attribute is nonzero, then run the following sub-step:
-        long presentedCounter = authenticatorData.getSignCount();
-        long storedCounter = authenticator.getCounter();
         if (presentedCounter > 0 || storedCounter > 0) {
             // If the signature counter value adata.signCount is
             // greater than the signature counter value stored in conjunction with credential’s id attribute.
             if (presentedCounter > storedCounter) {
-                authenticator.setCounter(presentedCounter);
+                return true;
             }
             // less than or equal to the signature counter value stored in conjunction with credential’s id attribute.
             else {
                 maliciousCounterValueHandler.maliciousCounterValueDetected(authenticationContext, authenticator);
             }
         }
-
-        return new WebAuthnAuthenticationContextValidationResponse(collectedClientData, authenticatorData, authenticationExtensionsClientOutputs);
+        return false;
     }
 
     void validateAuthenticatorData(AuthenticatorData authenticatorData) {
@@ -180,4 +254,33 @@ public class WebAuthnAuthenticationContextValidator {
         AssertUtil.notNull(maliciousCounterValueHandler, "maliciousCounterValueHandler must not be null");
         this.maliciousCounterValueHandler = maliciousCounterValueHandler;
     }
+
+    public ChallengeRepository getChallengeRepository() {
+        return challengeValidator.getChallengeRepository();
+    }
+
+    /**
+     * Sets the repository of issued challenges. When it is set, the challenge of the {@link ServerProperty} is consumed
+     * once the signature is verified, so that it cannot be replayed. Null disables it.
+     *
+     * @param challengeRepository challenge repository
+     */
+    public void setChallengeRepository(ChallengeRepository challengeRepository) {
+        challengeValidator.setChallengeRepository(challengeRepository);
+    }
+
+    public SignatureCounterStore getSignatureCounterStore() {
+        return signatureCounterStore;
+    }
+
+    /**
+     * Sets the store of signature counters. When it is set, signature counters are checked and updated atomically
+     * through it, and {@link Authenticator#setCounter(long)} is not called. Null disables it.
+     * {@link AsyncWebAuthnAuthenticationContextValidator} doesn't use it, but its own {@link com.webauthn4j.authenticator.AsyncCounterUpdater}.
+     *
+     * @param signatureCounterStore signature counter store
+     */
+    public void setSignatureCounterStore(SignatureCounterStore signatureCounterStore) {
+        this.signatureCounterStore = signatureCounterStore;
+    }
 }
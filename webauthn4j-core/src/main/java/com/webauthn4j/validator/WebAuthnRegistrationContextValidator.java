@@ -20,6 +20,7 @@ package com.webauthn4j.validator;
 import com.webauthn4j.converter.AttestationObjectConverter;
 import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
 import com.webauthn4j.converter.CollectedClientDataConverter;
+import com.webauthn4j.converter.jackson.deserializer.AttestationObjectEnvelope;
 import com.webauthn4j.converter.util.CborConverter;
 import com.webauthn4j.converter.util.JsonConverter;
 import com.webauthn4j.response.WebAuthnRegistrationContext;
@@ -31,6 +32,7 @@ import com.webauthn4j.response.extension.authenticator.AuthenticationExtensionsA
 import com.webauthn4j.response.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
 import com.webauthn4j.response.extension.client.AuthenticationExtensionsClientOutputs;
 import com.webauthn4j.response.extension.client.ExtensionClientOutput;
+import com.webauthn4j.server.ChallengeRepository;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.validator.attestation.statement.AttestationStatementValidator;
@@ -53,6 +55,8 @@ import com.webauthn4j.validator.exception.UserNotVerifiedException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Validates the specified {@link WebAuthnRegistrationContext} instance
@@ -89,6 +93,8 @@ public class WebAuthnRegistrationContextValidator {
                 new DefaultSelfAttestationTrustworthinessValidator(),
                 new JsonConverter(),
                 new CborConverter());
+        // the JsonConverter is owned by this validator, so no custom data binding can be registered for clientDataJSON
+        collectedClientDataConverter.setStreamingParseEnabled(true);
     }
 
     public WebAuthnRegistrationContextValidator(
@@ -103,6 +109,8 @@ public class WebAuthnRegistrationContextValidator {
                 selfAttestationTrustworthinessValidator,
                 new JsonConverter(),
                 new CborConverter());
+        // the JsonConverter is owned by this validator, so no custom data binding can be registered for clientDataJSON
+        collectedClientDataConverter.setStreamingParseEnabled(true);
     }
 
     public WebAuthnRegistrationContextValidator(
@@ -174,6 +182,21 @@ public class WebAuthnRegistrationContextValidator {
     // ~ Methods
     // ========================================================================================================
 
+    /**
+     * Validates the specified {@link WebAuthnRegistrationContext}s concurrently on the specified executor, without blocking the caller.
+     * A failed validation doesn't fail the batch, but is reported in its result.
+     *
+     * @param registrationContexts registration contexts
+     * @param executor             executor to run validations
+     * @return future completed with the validation results once all of them are validated, in the same order as registrationContexts
+     */
+    public CompletableFuture<List<BatchValidationResult<WebAuthnRegistrationContextValidationResponse>>> validateAll(
+            List<WebAuthnRegistrationContext> registrationContexts, Executor executor) {
+        AssertUtil.notNull(registrationContexts, "registrationContexts must not be null");
+
+        return BatchValidationSupport.validateAll(registrationContexts.size(), index -> validate(registrationContexts.get(index)), executor);
+    }
+
     public WebAuthnRegistrationContextValidationResponse validate(WebAuthnRegistrationContext registrationContext) {
 
         BeanAssertUtil.validate(registrationContext);
@@ -182,7 +205,8 @@ public class WebAuthnRegistrationContextValidator {
         byte[] attestationObjectBytes = registrationContext.getAttestationObject();
 
         CollectedClientData collectedClientData = collectedClientDataConverter.convert(clientDataBytes);
-        AttestationObject attestationObject = attestationObjectConverter.convert(attestationObjectBytes);
+        AttestationObjectEnvelope attestationObjectEnvelope = attestationObjectConverter.convertToEnvelope(attestationObjectBytes);
+        AttestationObject attestationObject = attestationObjectEnvelope.getAttestationObject();
         AuthenticationExtensionsClientOutputs<ExtensionClientOutput> authenticationExtensionsClientOutputs =
                 authenticationExtensionsClientOutputsConverter.convert(registrationContext.getClientExtensionsJSON());
 
@@ -192,7 +216,7 @@ public class WebAuthnRegistrationContextValidator {
 
         validateAuthenticatorDataField(attestationObject.getAuthenticatorData());
 
-        byte[] authenticatorDataBytes = attestationObjectConverter.extractAuthenticatorData(attestationObjectBytes);
+        byte[] authenticatorDataBytes = attestationObjectEnvelope.getAuthenticatorDataBytes();
 
         RegistrationObject registrationObject = new RegistrationObject(
                 collectedClientData,
@@ -247,6 +271,9 @@ public class WebAuthnRegistrationContextValidator {
         // Verify attestation
         attestationValidator.validate(registrationObject);
 
+        // The challenge is consumed only once the attestation, which signs the client data, is verified
+        challengeValidator.consume(serverProperty);
+
         // If the attestation statement attStmt verified successfully and is found to be trustworthy,
         // then register the new credential with the account that was denoted in the options.user passed to create(),
         // by associating it with the credential ID and credential public key contained in authData’s attestation data,
@@ -280,5 +307,17 @@ public class WebAuthnRegistrationContextValidator {
         }
     }
 
+    public ChallengeRepository getChallengeRepository() {
+        return challengeValidator.getChallengeRepository();
+    }
 
+    /**
+     * Sets the repository of issued challenges. When it is set, the challenge of the {@link ServerProperty} is consumed
+     * once the attestation is verified, so that it cannot be replayed. Null disables it.
+     *
+     * @param challengeRepository challenge repository
+     */
+    public void setChallengeRepository(ChallengeRepository challengeRepository) {
+        challengeValidator.setChallengeRepository(challengeRepository);
+    }
 }
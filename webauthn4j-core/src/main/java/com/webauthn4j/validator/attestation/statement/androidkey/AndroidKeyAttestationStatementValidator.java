@@ -19,6 +19,7 @@ package com.webauthn4j.validator.attestation.statement.androidkey;
 import com.webauthn4j.response.attestation.statement.AndroidKeyAttestationStatement;
 import com.webauthn4j.response.attestation.statement.AttestationStatement;
 import com.webauthn4j.response.attestation.statement.AttestationType;
+import com.webauthn4j.util.CryptoPrimitivePool;
 import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.util.SignatureUtil;
 import com.webauthn4j.validator.RegistrationObject;
@@ -64,7 +65,7 @@ public class AndroidKeyAttestationStatementValidator implements AttestationState
             throw new PublicKeyMismatchException("The public key in the first certificate in x5c doesn't matches the credentialPublicKey in the attestedCredentialData in authenticatorData.");
         }
 
-        byte[] clientDataHash = MessageDigestUtil.createSHA256().digest(registrationObject.getCollectedClientDataBytes());
+        byte[] clientDataHash = MessageDigestUtil.digestSHA256(registrationObject.getCollectedClientDataBytes());
         keyDescriptionValidator.validate(attestationStatement.getX5c().getEndEntityAttestationCertificate().getCertificate(), clientDataHash, teeEnforcedOnly);
 
         return AttestationType.BASIC;
@@ -84,8 +85,8 @@ public class AndroidKeyAttestationStatementValidator implements AttestationState
         byte[] signature = attestationStatement.getSig();
         PublicKey publicKey = getPublicKey(attestationStatement);
 
-        try {
-            Signature verifier = SignatureUtil.createSignature(attestationStatement.getAlg().getJcaName());
+        try (CryptoPrimitivePool.Lease<Signature> lease = SignatureUtil.borrowSignature(attestationStatement.getAlg().getJcaName())) {
+            Signature verifier = lease.get();
             verifier.initVerify(publicKey);
             verifier.update(signedData);
             if (verifier.verify(signature)) {
@@ -98,9 +99,8 @@ public class AndroidKeyAttestationStatementValidator implements AttestationState
     }
 
     private byte[] getSignedData(RegistrationObject registrationObject) {
-        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
         byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        byte[] clientDataHash = messageDigest.digest(registrationObject.getCollectedClientDataBytes());
+        byte[] clientDataHash = MessageDigestUtil.digestSHA256(registrationObject.getCollectedClientDataBytes());
         return ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
     }
 
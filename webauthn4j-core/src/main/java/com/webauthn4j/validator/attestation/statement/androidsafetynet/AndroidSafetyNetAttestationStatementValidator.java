@@ -100,10 +100,10 @@ public class AndroidSafetyNetAttestationStatementValidator implements Attestatio
     }
 
     private void validateNonce(String nonce, byte[] authenticatorData, byte[] collectedClientData) {
-        byte[] clientDataHash = MessageDigestUtil.createSHA256().digest(collectedClientData);
+        byte[] clientDataHash = MessageDigestUtil.digestSHA256(collectedClientData);
         ByteBuffer buffer = ByteBuffer.allocate(authenticatorData.length + clientDataHash.length);
         byte[] data = buffer.put(authenticatorData).put(clientDataHash).array();
-        byte[] hash = MessageDigestUtil.createSHA256().digest(data);
+        byte[] hash = MessageDigestUtil.digestSHA256(data);
         if (!Arrays.equals(hash, Base64Util.decode(nonce))) {
             throw new BadAttestationStatementException("Nonce doesn't match");
         }
@@ -22,6 +22,7 @@ import com.webauthn4j.response.attestation.statement.AttestationStatement;
 import com.webauthn4j.response.attestation.statement.AttestationType;
 import com.webauthn4j.response.attestation.statement.COSEAlgorithmIdentifier;
 import com.webauthn4j.response.attestation.statement.PackedAttestationStatement;
+import com.webauthn4j.util.CryptoPrimitivePool;
 import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.util.SignatureUtil;
 import com.webauthn4j.util.UUIDUtil;
@@ -125,8 +126,8 @@ public class PackedAttestationStatementValidator implements AttestationStatement
 
 
     private boolean verifySignature(PublicKey publicKey, COSEAlgorithmIdentifier algorithmIdentifier, byte[] signature, byte[] data) {
-        try {
-            Signature verifier = SignatureUtil.createSignature(algorithmIdentifier.getJcaName());
+        try (CryptoPrimitivePool.Lease<Signature> lease = SignatureUtil.borrowSignature(algorithmIdentifier.getJcaName())) {
+            Signature verifier = lease.get();
             verifier.initVerify(publicKey);
             verifier.update(data);
 
@@ -137,9 +138,8 @@ public class PackedAttestationStatementValidator implements AttestationStatement
     }
 
     private byte[] getAttToBeSigned(RegistrationObject registrationObject) {
-        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
         byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        byte[] clientDataHash = messageDigest.digest(registrationObject.getCollectedClientDataBytes());
+        byte[] clientDataHash = MessageDigestUtil.digestSHA256(registrationObject.getCollectedClientDataBytes());
         return ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
     }
 
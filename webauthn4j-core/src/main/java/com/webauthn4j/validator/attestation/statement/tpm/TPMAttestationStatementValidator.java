@@ -19,6 +19,7 @@ package com.webauthn4j.validator.attestation.statement.tpm;
 import com.webauthn4j.response.attestation.authenticator.AAGUID;
 import com.webauthn4j.response.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.response.attestation.statement.*;
+import com.webauthn4j.util.CryptoPrimitivePool;
 import com.webauthn4j.util.ECUtil;
 import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.util.SignatureUtil;
@@ -87,7 +88,7 @@ public class TPMAttestationStatementValidator implements AttestationStatementVal
         }
 
         /// Verify that extraData is set to the hash of attToBeSigned using the hash algorithm employed in "alg".
-        byte[] hash = MessageDigestUtil.createMessageDigest(attestationStatement.getAlg().getMessageDigestJcaName()).digest(attToBeSigned);
+        byte[] hash = MessageDigestUtil.digest(attestationStatement.getAlg().getMessageDigestJcaName(), attToBeSigned);
         if(!Arrays.equals(certInfo.getExtraData(), hash)){
             throw new BadAttestationStatementException("extraData must be equals to the hash of attToBeSigned");
         }
@@ -100,7 +101,7 @@ public class TPMAttestationStatementValidator implements AttestationStatementVal
         String algJcaName;
         algJcaName = getAlgJcaName(alg);
 
-        byte[] pubAreaDigest = MessageDigestUtil.createMessageDigest(algJcaName).digest(pubArea.getBytes());
+        byte[] pubAreaDigest = MessageDigestUtil.digest(algJcaName, pubArea.getBytes());
         if(!Arrays.equals(pubAreaDigest, certifyInfo.getName().getDigest())){
             throw new BadAttestationStatementException("hash of attested doesn't match with name field of certifyInfo");
         }
@@ -128,8 +129,8 @@ public class TPMAttestationStatementValidator implements AttestationStatementVal
         X509Certificate aikCert = attestationStatement.getX5c().getEndEntityAttestationCertificate().getCertificate();
 
         /// Verify the sig is a valid signature over certInfo using the attestation public key in aikCert with the algorithm specified in alg.
-        Signature certInfoSignature = SignatureUtil.createSignature(attestationStatement.getAlg().getJcaName());
-        try {
+        try (CryptoPrimitivePool.Lease<Signature> lease = SignatureUtil.borrowSignature(attestationStatement.getAlg().getJcaName())) {
+            Signature certInfoSignature = lease.get();
             certInfoSignature.initVerify(aikCert.getPublicKey());
             certInfoSignature.update(certInfo.getBytes());
             if(!certInfoSignature.verify(attestationStatement.getSig())){
@@ -296,9 +297,8 @@ public class TPMAttestationStatementValidator implements AttestationStatementVal
     }
 
     private byte[] getAttToBeSigned(RegistrationObject registrationObject) {
-        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
         byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        byte[] clientDataHash = messageDigest.digest(registrationObject.getCollectedClientDataBytes());
+        byte[] clientDataHash = MessageDigestUtil.digestSHA256(registrationObject.getCollectedClientDataBytes());
         return ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
     }
 }
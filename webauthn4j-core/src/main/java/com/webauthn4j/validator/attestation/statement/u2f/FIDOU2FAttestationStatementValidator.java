@@ -21,8 +21,10 @@ import com.webauthn4j.response.attestation.authenticator.EC2CredentialPublicKey;
 import com.webauthn4j.response.attestation.statement.AttestationStatement;
 import com.webauthn4j.response.attestation.statement.AttestationType;
 import com.webauthn4j.response.attestation.statement.FIDOU2FAttestationStatement;
+import com.webauthn4j.util.CryptoPrimitivePool;
 import com.webauthn4j.util.ECUtil;
 import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.util.SignatureUtil;
 import com.webauthn4j.validator.RegistrationObject;
 import com.webauthn4j.validator.attestation.statement.AttestationStatementValidator;
 import com.webauthn4j.validator.exception.BadAttestationStatementException;
@@ -30,7 +32,6 @@ import com.webauthn4j.validator.exception.BadSignatureException;
 import com.webauthn4j.validator.exception.CertificateException;
 
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.security.*;
 import java.security.cert.Certificate;
 import java.security.interfaces.ECPublicKey;
@@ -82,15 +83,15 @@ public class FIDOU2FAttestationStatementValidator implements AttestationStatemen
         byte[] signature = attestationStatement.getSig();
         PublicKey publicKey = getPublicKey(attestationStatement);
 
-        try {
-            Signature verifier = Signature.getInstance("SHA256withECDSA");
+        try (CryptoPrimitivePool.Lease<Signature> lease = SignatureUtil.borrowES256()) {
+            Signature verifier = lease.get();
             verifier.initVerify(publicKey);
             verifier.update(signedData);
             if (verifier.verify(signature)) {
                 return;
             }
             throw new BadSignatureException("Bad signature");
-        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException e) {
+        } catch (SignatureException | InvalidKeyException e) {
             throw new BadSignatureException("Bad signature", e);
         }
     }
@@ -104,19 +105,14 @@ public class FIDOU2FAttestationStatementValidator implements AttestationStatemen
 
     private byte[] getSignedData(RegistrationObject registrationObject) {
 
-        String rpId = registrationObject.getServerProperty().getRpId();
-        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
-
         AttestationObject attestationObject = registrationObject.getAttestationObject();
         EC2CredentialPublicKey credentialPublicKey =
                 (EC2CredentialPublicKey)attestationObject.getAuthenticatorData().getAttestedCredentialData().getCredentialPublicKey();
 
-        byte[] rpIdBytes = rpId.getBytes(StandardCharsets.UTF_8);
-
         byte[] clientDataJsonBytes = registrationObject.getCollectedClientDataBytes();
 
-        byte[] applicationParameter = messageDigest.digest(rpIdBytes);
-        byte[] challengeParameter = messageDigest.digest(clientDataJsonBytes);
+        byte[] applicationParameter = registrationObject.getServerProperty().getRpIdHash();
+        byte[] challengeParameter = MessageDigestUtil.digestSHA256(clientDataJsonBytes);
         byte[] keyHandle = attestationObject.getAuthenticatorData().getAttestedCredentialData().getCredentialId();
         byte[] userPublicKeyBytes = credentialPublicKey.getBytes();
 
@@ -17,6 +17,7 @@
 package com.webauthn4j.validator.attestation.trustworthiness.certpath;
 
 import com.webauthn4j.response.attestation.authenticator.AAGUID;
+import com.webauthn4j.response.attestation.statement.AttestationCertificatePath;
 import com.webauthn4j.response.attestation.statement.CertificateBaseAttestationStatement;
 import com.webauthn4j.util.CertificateUtil;
 import com.webauthn4j.validator.exception.CertificateException;
@@ -29,9 +30,10 @@ import java.util.Set;
 public abstract class CertPathTrustworthinessValidatorBase implements CertPathTrustworthinessValidator {
 
     private boolean fullChainProhibited = false;
+    private CertPathValidationResultCache certPathValidationResultCache = null;
 
     public void validate(AAGUID aaguid, CertificateBaseAttestationStatement attestationStatement) {
-        CertPath certPath = attestationStatement.getX5c().createCertPath();
+        AttestationCertificatePath x5c = attestationStatement.getX5c();
 
         Set<TrustAnchor> trustAnchors = resolveTrustAnchors(aaguid);
 
@@ -39,6 +41,23 @@ public abstract class CertPathTrustworthinessValidatorBase implements CertPathTr
             throw new TrustAnchorNotFoundException("TrustAnchors do not found for aaguid: " + aaguid.toString());
         }
 
+        CertPathValidationResultCache cache = this.certPathValidationResultCache;
+        CertPathValidationResultCache.Key key = null;
+        if (cache != null) {
+            key = cache.createKey(x5c, trustAnchors);
+            CertPathValidationResultCache.Result cachedResult = cache.get(key);
+            if (cachedResult != null) {
+                if (!cachedResult.isValid()) {
+                    throw new CertificateException("invalid cert path", cachedResult.getException());
+                }
+                if (fullChainProhibited && cachedResult.isFullChain()) {
+                    throw new CertificateException("certpath contains full chain");
+                }
+                return;
+            }
+        }
+
+        CertPath certPath = x5c.createCertPath();
         CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
         PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
         certPathParameters.setPolicyQualifiersRejected(false); // As policy qualifiers are checked manually in attestation statement validator, it is turned off
@@ -49,9 +68,15 @@ public abstract class CertPathTrustworthinessValidatorBase implements CertPathTr
         try {
             result = (PKIXCertPathValidatorResult) certPathValidator.validate(certPath, certPathParameters);
         } catch (InvalidAlgorithmParameterException e) {
-            throw new com.webauthn4j.validator.exception.CertificateException("invalid algorithm parameter", e);
+            throw new CertificateException("invalid algorithm parameter", e);
         } catch (CertPathValidatorException e) {
-            throw new com.webauthn4j.validator.exception.CertificateException("invalid cert path", e);
+            if (cache != null) {
+                cache.putFailure(key, e);
+            }
+            throw new CertificateException("invalid cert path", e);
+        }
+        if (cache != null) {
+            cache.putSuccess(key, x5c, result.getTrustAnchor());
         }
         if (fullChainProhibited && certPath.getCertificates().contains(result.getTrustAnchor().getTrustedCert())) {
             throw new CertificateException("certpath contains full chain");
@@ -69,4 +94,18 @@ public abstract class CertPathTrustworthinessValidatorBase implements CertPathTr
         this.fullChainProhibited = fullChainProhibited;
     }
 
+    public CertPathValidationResultCache getCertPathValidationResultCache() {
+        return certPathValidationResultCache;
+    }
+
+    /**
+     * Sets the cache of certification path validation results. Caching is disabled by default, and by setting null.
+     * As a cached result skips the validation until it expires, trust anchors must not be modified in place while it is set.
+     *
+     * @param certPathValidationResultCache cache
+     */
+    public void setCertPathValidationResultCache(CertPathValidationResultCache certPathValidationResultCache) {
+        this.certPathValidationResultCache = certPathValidationResultCache;
+    }
+
 }
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.validator.attestation.trustworthiness.certpath;
+
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CryptoPrimitivePool;
+import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.validator.exception.CertificateException;
+
+import java.security.MessageDigest;
+import java.security.cert.CertPathValidatorException;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, expiring cache of PKIX certification path validation results used by {@link CertPathTrustworthinessValidatorBase}.
+ * <p>
+ * Entries are keyed by SHA-256 of the encoded attestation certificate chain and a fingerprint of the trust anchor set,
+ * so that a change of the trust anchors never hits a result computed against the old ones.
+ * A successful result expires at the earliest notAfter of the chain and its trust anchor, or after the time to live,
+ * whichever comes first. Failed results are cached only when {@link #setFailureCached(boolean)} is enabled, and are
+ * rethrown as a new exception carrying the cached reason on every hit.
+ * When the cache is full, expired entries and then the least recently used entries are evicted in a batch.
+ */
+public class CertPathValidationResultCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofHours(1);
+
+    //~ Instance fields
+    // ================================================================================================
+    private final int maximumSize;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong accessCounter = new AtomicLong();
+    private final Object evictionLock = new Object();
+    private final Map<X509Certificate, byte[]> trustedCertDigests = Collections.synchronizedMap(new WeakHashMap<>());
+    private boolean failureCached = false;
+
+    public CertPathValidationResultCache(int maximumSize, Duration timeToLive, Clock clock) {
+        AssertUtil.isTrue(maximumSize > 0, "maximumSize must be positive");
+        AssertUtil.notNull(timeToLive, "timeToLive must not be null");
+        AssertUtil.notNull(clock, "clock must not be null");
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    public CertPathValidationResultCache(int maximumSize, Duration timeToLive) {
+        this(maximumSize, timeToLive, Clock.systemUTC());
+    }
+
+    public CertPathValidationResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Creates a cache key for the specified certificate chain validated against the specified trust anchors
+     *
+     * @param certificates attestation certificate chain
+     * @param trustAnchors trust anchors
+     * @return cache key
+     */
+    public Key createKey(List<X509Certificate> certificates, Set<TrustAnchor> trustAnchors) {
+        try (CryptoPrimitivePool.Lease<MessageDigest> lease = MessageDigestUtil.borrowSHA256()) {
+            MessageDigest messageDigest = lease.get();
+            for (X509Certificate certificate : certificates) {
+                messageDigest.update(getEncoded(certificate));
+            }
+            messageDigest.update(getTrustAnchorsFingerprint(trustAnchors));
+            return new Key(messageDigest.digest());
+        }
+    }
+
+    /**
+     * Returns the cached result for the key, or null if there is no live entry
+     *
+     * @param key cache key
+     * @return cached result
+     */
+    public Result get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!clock.instant().isBefore(entry.expiresAt)) {
+            entries.remove(key, entry);
+            return null;
+        }
+        entry.lastAccess = accessCounter.incrementAndGet();
+        return entry.result;
+    }
+
+    public void putSuccess(Key key, List<X509Certificate> certificates, TrustAnchor trustAnchor) {
+        Instant expiresAt = clock.instant().plus(timeToLive);
+        for (X509Certificate certificate : certificates) {
+            expiresAt = earlierOf(expiresAt, certificate.getNotAfter().toInstant());
+        }
+        X509Certificate trustedCert = trustAnchor.getTrustedCert();
+        if (trustedCert != null) {
+            expiresAt = earlierOf(expiresAt, trustedCert.getNotAfter().toInstant());
+        }
+        boolean fullChain = trustedCert != null && certificates.contains(trustedCert);
+        put(key, new Result(fullChain, null, null), expiresAt);
+    }
+
+    public void putFailure(Key key, CertPathValidatorException exception) {
+        if (!failureCached) {
+            return;
+        }
+        put(key, new Result(false, exception.getMessage(), exception.getReason()), clock.instant().plus(timeToLive));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+        trustedCertDigests.clear();
+    }
+
+    public boolean isFailureCached() {
+        return failureCached;
+    }
+
+    public void setFailureCached(boolean failureCached) {
+        this.failureCached = failureCached;
+    }
+
+    private void put(Key key, Result result, Instant expiresAt) {
+        entries.put(key, new Entry(result, expiresAt, accessCounter.incrementAndGet()));
+        if (entries.size() > maximumSize) {
+            evict();
+        }
+    }
+
+    /**
+     * Evicts expired entries, and then the least recently used ones down to 90% of the maximum size,
+     * so that a full cache does not sort its entries on every put.
+     */
+    private void evict() {
+        synchronized (evictionLock) {
+            if (entries.size() <= maximumSize) {
+                return;
+            }
+            Instant now = clock.instant();
+            entries.values().removeIf(entry -> !now.isBefore(entry.expiresAt));
+            int excess = entries.size() - (maximumSize - maximumSize / 10);
+            if (excess <= 0) {
+                return;
+            }
+            List<Map.Entry<Key, Entry>> snapshot = new ArrayList<>(entries.entrySet());
+            snapshot.sort(Comparator.comparingLong(item -> item.getValue().lastAccess));
+            for (int i = 0; i < excess && i < snapshot.size(); i++) {
+                Map.Entry<Key, Entry> eldest = snapshot.get(i);
+                entries.remove(eldest.getKey(), eldest.getValue());
+            }
+        }
+    }
+
+    /**
+     * Digests of trusted certificates are memoized, as the same trust anchors are presented on every registration.
+     */
+    private byte[] getTrustAnchorsFingerprint(Set<TrustAnchor> trustAnchors) {
+        List<byte[]> digests = new ArrayList<>(trustAnchors.size());
+        for (TrustAnchor trustAnchor : trustAnchors) {
+            X509Certificate trustedCert = trustAnchor.getTrustedCert();
+            if (trustedCert != null) {
+                digests.add(trustedCertDigests.computeIfAbsent(trustedCert, certificate -> MessageDigestUtil.digestSHA256(getEncoded(certificate))));
+            } else {
+                try (CryptoPrimitivePool.Lease<MessageDigest> lease = MessageDigestUtil.borrowSHA256()) {
+                    MessageDigest messageDigest = lease.get();
+                    messageDigest.update(trustAnchor.getCA().getEncoded());
+                    messageDigest.update(trustAnchor.getCAPublicKey().getEncoded());
+                    digests.add(messageDigest.digest());
+                }
+            }
+        }
+        digests.sort(CertPathValidationResultCache::compare); // the fingerprint must not depend on the iteration order of the set
+        try (CryptoPrimitivePool.Lease<MessageDigest> lease = MessageDigestUtil.borrowSHA256()) {
+            MessageDigest messageDigest = lease.get();
+            for (byte[] digest : digests) {
+                messageDigest.update(digest);
+            }
+            return messageDigest.digest();
+        }
+    }
+
+    private static byte[] getEncoded(X509Certificate certificate) {
+        try {
+            return certificate.getEncoded();
+        } catch (CertificateEncodingException e) {
+            throw new CertificateException("invalid certificate encoding", e);
+        }
+    }
+
+    private static int compare(byte[] a, byte[] b) {
+        for (int i = 0; i < Math.min(a.length, b.length); i++) {
+            int result = Byte.compare(a[i], b[i]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(a.length, b.length);
+    }
+
+    private static Instant earlierOf(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    /**
+     * Cache key, that is a SHA-256 fingerprint of the certificate chain and the trust anchor set
+     */
+    public static class Key {
+
+        private final byte[] value;
+
+        Key(byte[] value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return Arrays.equals(value, key.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(value);
+        }
+    }
+
+    /**
+     * Cached validation result
+     */
+    public static class Result {
+
+        private final boolean fullChain;
+        private final String message;
+        private final CertPathValidatorException.Reason reason;
+
+        Result(boolean fullChain, String message, CertPathValidatorException.Reason reason) {
+            this.fullChain = fullChain;
+            this.message = message;
+            this.reason = reason;
+        }
+
+        public boolean isValid() {
+            return reason == null;
+        }
+
+        /**
+         * Returns true if the certificate chain contains the certificate of the trust anchor it was validated against
+         *
+         * @return true if the chain is a full chain
+         */
+        public boolean isFullChain() {
+            return fullChain;
+        }
+
+        /**
+         * Returns a new exception carrying the cached failure reason, or null if the result is valid
+         *
+         * @return exception
+         */
+        public CertPathValidatorException getException() {
+            if (reason == null) {
+                return null;
+            }
+            return new CertPathValidatorException(message, null, null, -1, reason);
+        }
+    }
+
+    private static class Entry {
+
+        private final Result result;
+        private final Instant expiresAt;
+        private volatile long lastAccess;
+
+        Entry(Result result, Instant expiresAt, long lastAccess) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
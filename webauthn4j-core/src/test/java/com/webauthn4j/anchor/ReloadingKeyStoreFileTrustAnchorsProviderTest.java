@@ -0,0 +1,128 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.anchor;
+
+import com.webauthn4j.response.attestation.authenticator.AAGUID;
+import com.webauthn4j.test.TestUtil;
+import com.webauthn4j.util.CertificateUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyStore;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReloadingKeyStoreFileTrustAnchorsProviderTest {
+
+    private Path tempDir;
+    private Path keyStore;
+    private ReloadingKeyStoreFileTrustAnchorsProvider target;
+
+    @BeforeEach
+    void setup() throws Exception {
+        tempDir = Files.createTempDirectory("webauthn4j");
+        keyStore = tempDir.resolve("test.jks");
+        Path source = Paths.get(getClass().getClassLoader().getResource("com/webauthn4j/anchor/KeyStoreFileTrustAnchorProviderImplTest/test.jks").toURI());
+        Files.copy(source, keyStore);
+        target = new ReloadingKeyStoreFileTrustAnchorsProvider();
+        target.setKeyStore(keyStore);
+        target.setPassword("password");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        target.close();
+        try (Stream<Path> paths = Files.list(tempDir)) {
+            for (Path path : paths.collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(tempDir);
+    }
+
+    @Test
+    void provide_test() {
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = target.provide();
+        assertThat(trustAnchors).isNotEmpty();
+        assertThat(target.provide()).isSameAs(trustAnchors);
+        assertThat(target.reloadIfModified()).isFalse();
+    }
+
+    @Test
+    void reloadIfModified_test() throws Exception {
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = target.provide();
+
+        writeKeyStore(TestUtil.load3tierTestRootCACertificate());
+        assertThat(target.reloadIfModified()).isTrue();
+        Map<AAGUID, Set<TrustAnchor>> reloaded = target.provide();
+        assertThat(reloaded).isNotSameAs(trustAnchors);
+        assertThat(reloaded.values().iterator().next()).extracting(TrustAnchor::getTrustedCert).containsExactly(TestUtil.load3tierTestRootCACertificate());
+    }
+
+    @Test
+    void reloadIfModified_with_broken_file_test() throws Exception {
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = target.provide();
+
+        Files.write(keyStore, new byte[]{0x00, 0x01});
+        Files.setLastModifiedTime(keyStore, FileTime.from(Instant.now().plusSeconds(60)));
+        assertThrows(KeyStoreException.class,
+                () -> target.reloadIfModified()
+        );
+        assertThat(target.provide()).isSameAs(trustAnchors);
+    }
+
+    @Test
+    void polling_test() throws Exception {
+        target.setPollingInterval(Duration.ofMillis(10));
+        Map<AAGUID, Set<TrustAnchor>> trustAnchors = target.provide();
+
+        writeKeyStore(TestUtil.load3tierTestRootCACertificate());
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (target.provide() == trustAnchors && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(target.provide()).isNotSameAs(trustAnchors);
+    }
+
+    private void writeKeyStore(X509Certificate certificate) throws Exception {
+        KeyStore keyStoreObject = CertificateUtil.createKeyStore();
+        keyStoreObject.load(null, null);
+        keyStoreObject.setCertificateEntry("root", certificate);
+        Path temp = tempDir.resolve("test.jks.tmp");
+        try (OutputStream outputStream = Files.newOutputStream(temp)) {
+            keyStoreObject.store(outputStream, "password".toCharArray());
+        }
+        Files.setLastModifiedTime(temp, FileTime.from(Instant.now().plusSeconds(60)));
+        Files.move(temp, keyStore, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
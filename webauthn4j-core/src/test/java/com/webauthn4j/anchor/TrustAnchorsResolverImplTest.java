@@ -17,12 +17,19 @@
 package com.webauthn4j.anchor;
 
 import com.webauthn4j.response.attestation.authenticator.AAGUID;
+import com.webauthn4j.test.TestUtil;
 import org.junit.jupiter.api.Test;
 
 import java.security.cert.TrustAnchor;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class TrustAnchorsResolverImplTest {
 
@@ -34,4 +41,40 @@ class TrustAnchorsResolverImplTest {
         Set<TrustAnchor> trustAnchorsB = target.resolve(AAGUID.ZERO);
         assertThat(trustAnchorsA).isEqualTo(trustAnchorsB);
     }
+
+    @Test
+    void resolve_reflects_changes_of_provider_test() {
+        TrustAnchorsProvider trustAnchorsProvider = mock(TrustAnchorsProvider.class);
+        TrustAnchor trustAnchor = new TrustAnchor(TestUtil.load2tierTestRootCACertificate(), null);
+        Map<AAGUID, Set<TrustAnchor>> map = new HashMap<>();
+        map.put(AAGUID.NULL, new HashSet<>(Collections.singleton(trustAnchor)));
+        when(trustAnchorsProvider.provide()).thenReturn(map);
+        TrustAnchorsResolverImpl target = new TrustAnchorsResolverImpl(trustAnchorsProvider);
+
+        Set<TrustAnchor> trustAnchors = target.resolve(AAGUID.ZERO);
+        assertThat(trustAnchors).containsExactly(trustAnchor);
+        trustAnchors.clear();
+        assertThat(target.resolve(AAGUID.ZERO)).containsExactly(trustAnchor);
+
+        map.get(AAGUID.NULL).clear();
+        assertThat(target.resolve(AAGUID.ZERO)).isEmpty();
+
+        when(trustAnchorsProvider.provide()).thenReturn(Collections.singletonMap(AAGUID.ZERO, Collections.singleton(trustAnchor)));
+        assertThat(target.resolve(AAGUID.ZERO)).containsExactly(trustAnchor);
+    }
+
+    @Test
+    void resolve_merges_common_trustAnchors_and_ignores_null_key_test() {
+        TrustAnchor commonTrustAnchor = new TrustAnchor(TestUtil.load2tierTestRootCACertificate(), null);
+        TrustAnchor nullKeyTrustAnchor = new TrustAnchor(TestUtil.load3tierTestIntermediateCACertificate(), null);
+        TrustAnchor zeroTrustAnchor = new TrustAnchor(TestUtil.load3tierTestRootCACertificate(), null);
+        Map<AAGUID, Set<TrustAnchor>> map = new HashMap<>();
+        map.put(AAGUID.NULL, Collections.singleton(commonTrustAnchor));
+        map.put(null, Collections.singleton(nullKeyTrustAnchor));
+        map.put(AAGUID.ZERO, Collections.singleton(zeroTrustAnchor));
+        TrustAnchorsResolverImpl target = new TrustAnchorsResolverImpl(() -> map);
+
+        assertThat(target.resolve(AAGUID.ZERO)).containsExactlyInAnyOrder(commonTrustAnchor, zeroTrustAnchor);
+        assertThat(target.resolve(new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812"))).containsExactlyInAnyOrder(commonTrustAnchor);
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.authenticator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemorySignatureCounterStoreTest {
+
+    private InMemorySignatureCounterStore target = new InMemorySignatureCounterStore();
+
+    @Test
+    void getCounter_is_initialized_from_authenticator_test() {
+        Authenticator authenticator = new AuthenticatorImpl(null, null, 5);
+        assertThat(target.getCounter(new byte[]{0x01}, authenticator)).isEqualTo(5);
+
+        authenticator.setCounter(10);
+        assertThat(target.getCounter(new byte[]{0x01}, authenticator)).isEqualTo(5);
+    }
+
+    @Test
+    void compareAndSet_test() {
+        Authenticator authenticator = new AuthenticatorImpl(null, null, 5);
+        long counter = target.getCounter(new byte[]{0x01}, authenticator);
+
+        assertThat(target.compareAndSet(new byte[]{0x01}, counter, 6)).isTrue();
+        assertThat(target.compareAndSet(new byte[]{0x01}, counter, 7)).isFalse();
+        assertThat(target.getCounter(new byte[]{0x01}, authenticator)).isEqualTo(6);
+    }
+
+    @Test
+    void compareAndSet_with_unknown_credential_test() {
+        assertThat(target.compareAndSet(new byte[]{0x02}, 0, 1)).isFalse();
+    }
+
+    @Test
+    void remove_test() {
+        target.getCounter(new byte[]{0x01}, new AuthenticatorImpl(null, null, 5));
+        target.remove(new byte[]{0x01});
+        assertThat(target.getCounter(new byte[]{0x01}, new AuthenticatorImpl(null, null, 8))).isEqualTo(8);
+    }
+
+    @Test
+    void compareAndSet_concurrently_test() throws Exception {
+        byte[] credentialId = new byte[]{0x01};
+        long counter = target.getCounter(credentialId, new AuthenticatorImpl(null, null, 0));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                long newValue = i + 1;
+                results.add(executor.submit(() -> target.compareAndSet(credentialId, counter, newValue)));
+            }
+            int updated = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    updated++;
+                }
+            }
+            assertThat(updated).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
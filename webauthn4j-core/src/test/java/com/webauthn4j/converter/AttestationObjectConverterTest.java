@@ -16,6 +16,8 @@
 
 package com.webauthn4j.converter;
 
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.jackson.deserializer.AttestationObjectEnvelope;
 import com.webauthn4j.converter.util.CborConverter;
 import com.webauthn4j.response.attestation.AttestationObject;
 import com.webauthn4j.response.attestation.authenticator.AuthenticatorData;
@@ -101,4 +103,29 @@ class AttestationObjectConverterTest {
         AttestationObject deserialized = target.convert(result);
         assertThat(deserialized).isEqualTo(input);
     }
+
+    @Test
+    void convertToEnvelope_test() {
+        AttestationObject expected = TestUtil.createAttestationObjectWithFIDOU2FAttestationStatement();
+        byte[] source = target.convertToBytes(expected);
+
+        AttestationObjectEnvelope envelope = target.convertToEnvelope(source);
+
+        assertAll(
+                () -> assertThat(envelope.getAttestationObject()).isEqualTo(expected),
+                () -> assertThat(envelope.getAuthenticatorDataBytes()).isEqualTo(target.extractAuthenticatorData(source))
+        );
+    }
+
+    @Test
+    void convertToEnvelope_null_test() {
+        assertThat(target.convertToEnvelope(null)).isNull();
+    }
+
+    @Test
+    void convertToEnvelope_invalid_data_test() {
+        assertThrows(DataConversionException.class,
+                () -> target.convertToEnvelope(new byte[]{(byte) 0xFF})
+        );
+    }
 }
@@ -18,15 +18,19 @@ package com.webauthn4j.converter;
 
 import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.CborConverter;
+import com.webauthn4j.response.attestation.authenticator.AttestedCredentialData;
 import com.webauthn4j.response.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.response.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
 import com.webauthn4j.response.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
 import com.webauthn4j.response.extension.authenticator.SupportedExtensionsExtensionAuthenticatorOutput;
+import com.webauthn4j.test.TestUtil;
 import com.webauthn4j.util.Base64UrlUtil;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 
+import static com.webauthn4j.response.attestation.authenticator.AuthenticatorData.BIT_AT;
 import static com.webauthn4j.response.attestation.authenticator.AuthenticatorData.BIT_ED;
 import static com.webauthn4j.response.attestation.authenticator.AuthenticatorData.BIT_UP;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -106,4 +110,28 @@ class AuthenticatorDataConverterTest {
                 () -> new AuthenticatorDataConverter(cborConverter).convert(bytes)
         );
     }
+
+    @Test
+    void convert_byteBuffer_test() {
+        //Given
+        AttestedCredentialData attestedCredentialData = TestUtil.createAttestedCredentialData();
+        SupportedExtensionsExtensionAuthenticatorOutput extensionOutput = new SupportedExtensionsExtensionAuthenticatorOutput(Collections.singletonList("uvm"));
+        Map<String, RegistrationExtensionAuthenticatorOutput> extensionOutputMap = Collections.singletonMap(extensionOutput.getIdentifier(), extensionOutput);
+        AuthenticatorData<RegistrationExtensionAuthenticatorOutput> authenticatorData =
+                new AuthenticatorData<>(new byte[32], (byte) (BIT_AT | BIT_ED), 1, attestedCredentialData, new AuthenticationExtensionsAuthenticatorOutputs<>(extensionOutputMap));
+        AuthenticatorDataConverter authenticatorDataConverter = new AuthenticatorDataConverter(cborConverter);
+        byte[] serialized = authenticatorDataConverter.convert(authenticatorData);
+        ByteBuffer byteBuffer = ByteBuffer.allocate(serialized.length + 8);
+        byteBuffer.position(4);
+        byteBuffer.put(serialized);
+        byteBuffer.position(4).limit(4 + serialized.length);
+
+        //When
+        AuthenticatorData<RegistrationExtensionAuthenticatorOutput> result = authenticatorDataConverter.convert(byteBuffer.slice());
+
+        //Then
+        assertThat(result.getAttestedCredentialData()).isEqualTo(attestedCredentialData);
+        assertThat(result.getExtensions()).containsValues(extensionOutput);
+        assertThat(result).isEqualTo(authenticatorData);
+    }
 }
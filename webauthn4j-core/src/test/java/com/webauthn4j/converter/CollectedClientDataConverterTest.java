@@ -16,18 +16,27 @@
 
 package com.webauthn4j.converter;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.JsonConverter;
 import com.webauthn4j.response.client.ClientDataType;
 import com.webauthn4j.response.client.CollectedClientData;
 import com.webauthn4j.response.client.Origin;
+import com.webauthn4j.response.client.TokenBindingStatus;
 import com.webauthn4j.response.client.challenge.DefaultChallenge;
 import com.webauthn4j.util.Base64UrlUtil;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class CollectedClientDataConverterTest {
 
@@ -35,6 +44,11 @@ class CollectedClientDataConverterTest {
 
     private CollectedClientDataConverter target = new CollectedClientDataConverter(jsonConverter);
 
+    @BeforeEach
+    void setup() {
+        target.setStreamingParseEnabled(true);
+    }
+
     @Test
     void convert_deserialization_test() {
         //noinspection SpellCheckingInspection
@@ -81,4 +95,60 @@ class CollectedClientDataConverterTest {
         //noinspection SpellCheckingInspection
         assertThat(result).isEqualTo("eyJ0eXBlIjoid2ViYXV0aG4uZ2V0IiwiY2hhbGxlbmdlIjoidGszMVVIMUVUR0dUUGozM09oT016dyIsIm9yaWdpbiI6Imh0dHA6Ly9sb2NhbGhvc3Q6ODA4MCIsInRva2VuQmluZGluZyI6eyJzdGF0dXMiOiJub3Qtc3VwcG9ydGVkIiwiaWQiOm51bGx9fQ");
     }
+
+    @Test
+    void convert_matches_data_binding_test() {
+        //noinspection SpellCheckingInspection
+        String clientDataJson = "{\"type\":\"webauthn.create\",\"challenge\":\"Tgup0LZZQKinvtQcZFYdRw\",\"origin\":\"https://example.com:8443\",\"extra\":{\"nested\":[1,{\"a\":null}]},\"tokenBinding\":{\"status\":\"present\",\"id\":\"AQID\",\"extra\":true}}";
+        byte[] source = clientDataJson.getBytes(StandardCharsets.UTF_8);
+        CollectedClientData collectedClientData = target.convert(source);
+        assertAll(
+                () -> assertThat(collectedClientData).isEqualTo(jsonConverter.readValue(source, CollectedClientData.class)),
+                () -> assertThat(collectedClientData.getTokenBinding().getStatus()).isEqualTo(TokenBindingStatus.PRESENT),
+                () -> assertThat(collectedClientData.getTokenBinding().getId()).isEqualTo("AQID")
+        );
+    }
+
+    @Test
+    void convert_invalid_origin_test() {
+        String clientDataJson = "{\"type\":\"webauthn.get\",\"challenge\":\"tk31UH1ETGGTPj33OhOMzw\",\"origin\":\"ftp://example.com\"}";
+        assertThrows(DataConversionException.class,
+                () -> target.convert(clientDataJson.getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    @Test
+    void convert_malformed_json_test() {
+        String clientDataJson = "{\"type\":\"webauthn.get\",";
+        assertThrows(DataConversionException.class,
+                () -> target.convert(clientDataJson.getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    @Test
+    void convert_invalid_challenge_test() {
+        String clientDataJson = "{\"type\":\"webauthn.get\",\"challenge\":\"*\",\"origin\":\"https://example.com\"}";
+        assertThrows(DataConversionException.class,
+                () -> target.convert(clientDataJson.getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    @Test
+    void convert_with_custom_deserializer_test() {
+        JsonConverter customJsonConverter = new JsonConverter();
+        SimpleModule module = new SimpleModule();
+        module.addDeserializer(Origin.class, new StdDeserializer<Origin>(Origin.class) {
+            @Override
+            public Origin deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+                return new Origin("https://" + p.getValueAsString());
+            }
+        });
+        customJsonConverter.getJsonMapper().registerModule(module);
+        CollectedClientDataConverter customTarget = new CollectedClientDataConverter(customJsonConverter);
+        assertThat(customTarget.isStreamingParseEnabled()).isFalse();
+
+        String clientDataJson = "{\"type\":\"webauthn.get\",\"challenge\":\"tk31UH1ETGGTPj33OhOMzw\",\"origin\":\"example.com\"}";
+        CollectedClientData collectedClientData = customTarget.convert(clientDataJson.getBytes(StandardCharsets.UTF_8));
+        assertThat(collectedClientData.getOrigin()).isEqualTo(new Origin("https://example.com"));
+    }
 }
@@ -16,8 +16,12 @@
 
 package com.webauthn4j.converter.jackson.deserializer;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.JsonConverter;
+import com.webauthn4j.response.extension.AbstractExtensionOutput;
 import com.webauthn4j.response.extension.Coordinates;
 import com.webauthn4j.response.extension.client.*;
 import org.junit.jupiter.api.Test;
@@ -27,6 +31,7 @@ import java.util.Map;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ExtensionClientOutputDeserializerTest {
 
@@ -73,4 +78,44 @@ class ExtensionClientOutputDeserializerTest {
                 )
         );
     }
+
+    @Test
+    void deserialize_test_with_custom_extension() {
+        JsonConverter jsonConverter = new JsonConverter();
+        jsonConverter.getJsonMapper().registerSubtypes(new NamedType(CustomExtensionClientOutput.class, CustomExtensionClientOutput.ID));
+        TypeReference<Map<String, ExtensionClientOutput>> typeReference = new TypeReference<Map<String, ExtensionClientOutput>>() {
+        };
+
+        Map<String, ExtensionClientOutput> extensionOutputs = jsonConverter.readValue("{ \"appid\": true, \"example.custom\": \"value\" }", typeReference);
+
+        assertThat(extensionOutputs).containsValues(
+                new FIDOAppIDExtensionClientOutput(true),
+                new CustomExtensionClientOutput("value")
+        );
+    }
+
+    @Test
+    void deserialize_test_with_unknown_extension() {
+        JsonConverter jsonConverter = new JsonConverter();
+        TypeReference<Map<String, ExtensionClientOutput>> typeReference = new TypeReference<Map<String, ExtensionClientOutput>>() {
+        };
+
+        assertThrows(DataConversionException.class, () -> jsonConverter.readValue("{ \"appid\": true, \"example.unknown\": \"value\" }", typeReference));
+        assertThat((Map<String, ExtensionClientOutput>) jsonConverter.readValue("{ \"appid\": true }", typeReference)).containsValues(new FIDOAppIDExtensionClientOutput(true));
+    }
+
+    static class CustomExtensionClientOutput extends AbstractExtensionOutput<String> implements ExtensionClientOutput<String> {
+
+        static final String ID = "example.custom";
+
+        @JsonCreator
+        CustomExtensionClientOutput(String value) {
+            super(value);
+        }
+
+        @Override
+        public String getIdentifier() {
+            return ID;
+        }
+    }
 }
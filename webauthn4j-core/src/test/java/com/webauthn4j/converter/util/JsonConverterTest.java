@@ -22,6 +22,11 @@ import com.webauthn4j.util.Base64UrlUtil;
 import org.junit.jupiter.api.Test;
 
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -36,6 +41,19 @@ class JsonConverterTest {
         assertThat(dto.getValue()).isEqualTo("dummy");
     }
 
+    @Test
+    void readValue_with_byte_array_test() {
+        ConverterTestDto dto = jsonConverter.readValue("{\"value\":\"dummy\"}".getBytes(StandardCharsets.UTF_8), ConverterTestDto.class);
+        assertThat(dto.getValue()).isEqualTo("dummy");
+    }
+
+    @Test
+    void readValue_with_invalid_json_byte_array_test() {
+        assertThrows(DataConversionException.class,
+                () -> jsonConverter.readValue("{value:\"dummy\"}".getBytes(StandardCharsets.UTF_8), ConverterTestDto.class)
+        );
+    }
+
     @Test
     void readValue_with_invalid_json_test() {
         assertThrows(DataConversionException.class,
@@ -91,4 +109,28 @@ class JsonConverterTest {
                 jsonConverter.writeValueAsBytes(converterTestInvalidDto)
         );
     }
+
+    @Test
+    void getJsonReader_test() {
+        assertThat(jsonConverter.getJsonReader(ConverterTestDto.class)).isSameAs(jsonConverter.getJsonReader(ConverterTestDto.class));
+    }
+
+    @Test
+    void getCborConverter_test() {
+        CborConverter cborConverter = jsonConverter.getCborConverter();
+        assertThat(cborConverter.getJsonConverter()).isSameAs(jsonConverter);
+        assertThat(cborConverter.getJsonMapper()).isSameAs(jsonConverter.getJsonMapper());
+        assertThat(cborConverter.getCborMapper()).isSameAs(jsonConverter.getCborMapper());
+    }
+
+    @Test
+    void readValue_test_with_concurrent_first_access() {
+        JsonConverter target = new JsonConverter();
+        List<CompletableFuture<ConverterTestDto>> futures = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> target.<ConverterTestDto>readValue("{\"value\":\"dummy\"}", ConverterTestDto.class)))
+                .collect(Collectors.toList());
+        for (CompletableFuture<ConverterTestDto> future : futures) {
+            assertThat(future.join().getValue()).isEqualTo("dummy");
+        }
+    }
 }
@@ -21,9 +21,13 @@ import com.webauthn4j.converter.util.JsonConverter;
 import com.webauthn4j.response.attestation.statement.COSEAlgorithmIdentifier;
 import com.webauthn4j.test.TestUtil;
 import com.webauthn4j.util.Base64UrlUtil;
+import com.webauthn4j.util.KeyUtil;
 import com.webauthn4j.validator.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -56,6 +60,14 @@ class EC2CredentialPublicKeyTest {
         assertThat(instanceA).isEqualTo(instanceB);
     }
 
+    @Test
+    void getPublicKey_test() {
+        KeyPair keyPair = KeyUtil.createECKeyPair();
+        EC2CredentialPublicKey target = EC2CredentialPublicKey.create((ECPublicKey) keyPair.getPublic());
+        assertThat(target.getPublicKey()).isEqualTo(keyPair.getPublic());
+        assertThat(target.getPublicKey()).isSameAs(target.getPublicKey());
+    }
+
     @Test
     void cbor_serialize_deserialize_test() {
         EC2CredentialPublicKey original = TestUtil.createECCredentialPublicKey();
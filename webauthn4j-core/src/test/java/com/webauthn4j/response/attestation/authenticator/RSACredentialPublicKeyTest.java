@@ -19,9 +19,13 @@ package com.webauthn4j.response.attestation.authenticator;
 import com.webauthn4j.converter.util.CborConverter;
 import com.webauthn4j.converter.util.JsonConverter;
 import com.webauthn4j.test.TestUtil;
+import com.webauthn4j.util.KeyUtil;
 import com.webauthn4j.validator.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -44,6 +48,14 @@ class RSACredentialPublicKeyTest {
         );
     }
 
+    @Test
+    void getPublicKey_test() {
+        KeyPair keyPair = KeyUtil.createRSAKeyPair();
+        RSACredentialPublicKey target = RSACredentialPublicKey.create((RSAPublicKey) keyPair.getPublic());
+        assertThat(target.getPublicKey()).isEqualTo(keyPair.getPublic());
+        assertThat(target.getPublicKey()).isSameAs(target.getPublicKey());
+    }
+
     @Test
     void cbor_serialize_deserialize_test() {
         RSACredentialPublicKey original = TestUtil.createRSCredentialPublicKey();
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.response.client.challenge.Challenge;
+import com.webauthn4j.response.client.challenge.DefaultChallenge;
+import com.webauthn4j.test.MutableClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryChallengeRepositoryTest {
+
+    private MutableClock clock = new MutableClock(Instant.parse("2019-01-01T00:00:00Z"));
+    private InMemoryChallengeRepository target = new InMemoryChallengeRepository(Duration.ofMinutes(5), 1000, 10, clock);
+
+    @Test
+    void consume_test() {
+        Challenge challenge = target.issue();
+        assertThat(target.size()).isEqualTo(1);
+        assertThat(target.consume(new DefaultChallenge(challenge.getValue()))).isTrue();
+        assertThat(target.consume(challenge)).isFalse();
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    void consume_unknown_challenge_test() {
+        assertThat(target.consume(new DefaultChallenge())).isFalse();
+    }
+
+    @Test
+    void consume_expired_challenge_test() {
+        Challenge challenge = new DefaultChallenge();
+        target.save(challenge);
+        clock.advance(Duration.ofMinutes(4));
+        Challenge laterChallenge = target.issue();
+
+        clock.advance(Duration.ofMinutes(2));
+        assertThat(target.consume(challenge)).isFalse();
+        assertThat(target.consume(laterChallenge)).isTrue();
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    void save_beyond_maximum_size_drops_oldest_challenges_test() {
+        InMemoryChallengeRepository repository = new InMemoryChallengeRepository(Duration.ofMinutes(5), 64, 10, clock);
+        List<Challenge> oldChallenges = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            oldChallenges.add(repository.issue());
+        }
+        clock.advance(Duration.ofMinutes(1));
+        for (int i = 0; i < 1000; i++) {
+            repository.issue();
+        }
+        assertThat(repository.size()).isLessThanOrEqualTo(64);
+        assertThat(oldChallenges.stream().filter(repository::consume)).isEmpty();
+    }
+
+    @Test
+    void consume_concurrently_test() throws Exception {
+        Challenge challenge = target.issue();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> target.consume(challenge)));
+            }
+            int consumed = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    consumed++;
+                }
+            }
+            assertThat(consumed).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
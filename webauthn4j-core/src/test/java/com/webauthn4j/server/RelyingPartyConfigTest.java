@@ -0,0 +1,70 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.response.client.Origin;
+import com.webauthn4j.util.MessageDigestUtil;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RelyingPartyConfigTest {
+
+    @Test
+    void getter_test() {
+        Set<Origin> origins = new HashSet<>(Arrays.asList(new Origin("https://example.com"), new Origin("https://www.example.com")));
+        RelyingPartyConfig relyingPartyConfig = new RelyingPartyConfig("example.com", origins);
+        origins.clear();
+
+        relyingPartyConfig.getRpIdHash()[0] ^= 0xFF;
+
+        assertAll(
+                () -> assertThat(relyingPartyConfig.getRpId()).isEqualTo("example.com"),
+                () -> assertThat(relyingPartyConfig.getRpIdHash()).isEqualTo(MessageDigestUtil.createSHA256().digest("example.com".getBytes(StandardCharsets.UTF_8))),
+                () -> assertThat(relyingPartyConfig.getOrigins()).containsExactlyInAnyOrder(new Origin("https://example.com"), new Origin("https://www.example.com")),
+                () -> assertThrows(UnsupportedOperationException.class, () -> relyingPartyConfig.getOrigins().clear())
+        );
+    }
+
+    @Test
+    void constructor_test_with_invalid_arguments() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new RelyingPartyConfig(null, new Origin("https://example.com"))),
+                () -> assertThrows(IllegalArgumentException.class, () -> new RelyingPartyConfig("example.com", (Set<Origin>) null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new RelyingPartyConfig("example.com", Collections.emptySet()))
+        );
+    }
+
+    @Test
+    void equals_hashCode_test() {
+        RelyingPartyConfig relyingPartyConfigA = new RelyingPartyConfig("example.com", new Origin("https://example.com"));
+        RelyingPartyConfig relyingPartyConfigB = new RelyingPartyConfig("example.com", new Origin("https://example.com"));
+
+        assertAll(
+                () -> assertThat(relyingPartyConfigA).isEqualTo(relyingPartyConfigB),
+                () -> assertThat(relyingPartyConfigA).hasSameHashCodeAs(relyingPartyConfigB)
+        );
+    }
+}
@@ -18,9 +18,16 @@ package com.webauthn4j.server;
 
 import com.webauthn4j.response.client.challenge.Challenge;
 import com.webauthn4j.response.client.challenge.DefaultChallenge;
+import com.webauthn4j.response.client.Origin;
 import com.webauthn4j.test.TestUtil;
+import com.webauthn4j.util.MessageDigestUtil;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
@@ -37,4 +44,50 @@ class ServerPropertyTest {
                 () -> assertThat(serverPropertyA).hasSameHashCodeAs(serverPropertyB)
         );
     }
+
+    @Test
+    void getRpIdHash_test() {
+        ServerProperty serverProperty = new ServerProperty(new Origin("https://example.com"), "example.com", new DefaultChallenge(), null);
+        byte[] expected = MessageDigestUtil.createSHA256().digest("example.com".getBytes(StandardCharsets.UTF_8));
+
+        serverProperty.getRpIdHash()[0] ^= 0xFF;
+        ServerProperty otherServerProperty = new ServerProperty(new Origin("https://example.com"), "example.com", new DefaultChallenge(), null);
+
+        assertAll(
+                () -> assertThat(serverProperty.getRpIdHash()).isEqualTo(expected),
+                () -> assertThat(otherServerProperty.getRpIdHash()).isEqualTo(expected)
+        );
+    }
+
+    @Test
+    void getRpIdHash_test_with_null_rpId() {
+        ServerProperty serverProperty = new ServerProperty(new Origin("https://example.com"), null, new DefaultChallenge(), null);
+        assertThat(serverProperty.getRpIdHash()).isNull();
+    }
+
+    @Test
+    void constructor_test_with_relyingPartyConfig() {
+        RelyingPartyConfig relyingPartyConfig = new RelyingPartyConfig("example.com", new Origin("https://example.com"));
+        Challenge challenge = new DefaultChallenge();
+        ServerProperty serverProperty = new ServerProperty(relyingPartyConfig, challenge, null);
+
+        assertAll(
+                () -> assertThat(serverProperty.getRpId()).isEqualTo("example.com"),
+                () -> assertThat(serverProperty.getRpIdHash()).isEqualTo(relyingPartyConfig.getRpIdHash()),
+                () -> assertThat(serverProperty.getOrigin()).isEqualTo(new Origin("https://example.com")),
+                () -> assertThat(serverProperty.getOrigins()).containsExactly(new Origin("https://example.com")),
+                () -> assertThat(serverProperty).isEqualTo(new ServerProperty(new Origin("https://example.com"), "example.com", challenge, null))
+        );
+    }
+
+    @Test
+    void getOrigin_test_with_multiple_origins() {
+        Set<Origin> origins = new HashSet<>(Arrays.asList(new Origin("https://example.com"), new Origin("https://www.example.com")));
+        ServerProperty serverProperty = new ServerProperty(new RelyingPartyConfig("example.com", origins), new DefaultChallenge(), null);
+
+        assertAll(
+                () -> assertThat(serverProperty.getOrigin()).isNull(),
+                () -> assertThat(serverProperty.getOrigins()).isEqualTo(origins)
+        );
+    }
 }
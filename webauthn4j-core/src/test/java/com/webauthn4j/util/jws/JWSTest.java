@@ -17,8 +17,11 @@
 package com.webauthn4j.util.jws;
 
 import com.webauthn4j.converter.util.JsonConverter;
+import com.webauthn4j.util.Base64UrlUtil;
 import org.junit.jupiter.api.Test;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -40,4 +43,81 @@ class JWSTest {
                 () -> JWS.parse(input, new JsonConverter(), HashMap.class)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void parse_test() {
+        String headerString = encode("{\"alg\":\"ES256\"}");
+        String payloadString = encode("{\"key\":\"value\"}");
+        String input = headerString + "." + payloadString + "." + Base64UrlUtil.encodeToString(new byte[]{0x01, 0x02});
+        JWS<HashMap> jws = JWS.parse(input, new JsonConverter(), HashMap.class);
+        assertThat(jws.getHeader().getAlg()).isEqualTo(JWAIdentifier.ES256);
+        assertThat(jws.getHeaderString()).isEqualTo(headerString);
+        assertThat(jws.getPayload()).containsEntry("key", "value");
+        assertThat(jws.getPayloadString()).isEqualTo(payloadString);
+        assertThat(jws.getSignature()).containsExactly(0x01, 0x02);
+    }
+
+    @Test
+    void serialization_test() throws Exception {
+        String headerString = encode("{\"alg\":\"ES256\"}");
+        String payloadString = encode("{\"key\":\"value\"}");
+        String input = headerString + "." + payloadString + "." + Base64UrlUtil.encodeToString(new byte[]{0x01, 0x02});
+        JWS<HashMap> jws = JWS.parse(input, new JsonConverter(), HashMap.class);
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(jws);
+        }
+        JWS<HashMap> deserialized;
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            deserialized = (JWS<HashMap>) objectInputStream.readObject();
+        }
+
+        assertThat(deserialized.getHeader().getAlg()).isEqualTo(JWAIdentifier.ES256);
+        assertThat(deserialized.getHeaderString()).isEqualTo(headerString);
+        assertThat(deserialized.getPayload()).containsEntry("key", "value");
+        assertThat(deserialized.getPayloadString()).isEqualTo(payloadString);
+        assertThat(deserialized.getSignature()).containsExactly(0x01, 0x02);
+        assertThat(ObjectStreamClass.lookup(JWS.class).getFields()).extracting(ObjectStreamField::getName)
+                .containsExactlyInAnyOrder("header", "payload", "signature", "headerString", "payloadString");
+    }
+
+    @Test
+    void parse_with_too_many_periods_test() {
+        String input = encode("{\"alg\":\"ES256\"}") + "." + encode("{}") + ".AQI.AQI";
+        assertThrows(IllegalArgumentException.class,
+                () -> JWS.parse(input, new JsonConverter(), HashMap.class)
+        );
+    }
+
+    @Test
+    void parse_without_signature_test() {
+        String input = encode("{\"alg\":\"ES256\"}") + "." + encode("{}") + ".";
+        assertThrows(IllegalArgumentException.class,
+                () -> JWS.parse(input, new JsonConverter(), HashMap.class)
+        );
+    }
+
+    @Test
+    void parse_with_invalid_payload_encoding_test() {
+        String input = encode("{\"alg\":\"ES256\"}") + ".!!!!.AQI";
+        assertThrows(IllegalArgumentException.class,
+                () -> JWS.parse(input, new JsonConverter(), HashMap.class)
+        );
+    }
+
+    @Test
+    void parse_with_non_ascii_payload_test() {
+        String payloadString = encode("{\"key\":\"value\"}");
+        // U+0165 would be truncated into 'e', which is a valid base64url character
+        String input = encode("{\"alg\":\"ES256\"}") + "." + payloadString.replace('e', '\u0165') + ".AQI";
+        assertThat(input).contains("\u0165");
+        assertThrows(IllegalArgumentException.class,
+                () -> JWS.parse(input, new JsonConverter(), HashMap.class)
+        );
+    }
+
+    private static String encode(String json) {
+        return Base64UrlUtil.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
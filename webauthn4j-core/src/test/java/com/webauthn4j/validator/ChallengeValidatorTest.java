@@ -20,11 +20,13 @@ import com.webauthn4j.response.client.ClientDataType;
 import com.webauthn4j.response.client.CollectedClientData;
 import com.webauthn4j.response.client.challenge.Challenge;
 import com.webauthn4j.response.client.challenge.DefaultChallenge;
+import com.webauthn4j.server.InMemoryChallengeRepository;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.validator.exception.BadChallengeException;
 import com.webauthn4j.validator.exception.MissingChallengeException;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 
@@ -77,4 +79,51 @@ class ChallengeValidatorTest {
                 () -> target.validate(collectedClientData, serverProperty)
         );
     }
+
+    @Test
+    void verifyChallenge_test_with_challengeRepository() {
+        ChallengeValidator challengeValidator = new ChallengeValidator();
+        InMemoryChallengeRepository challengeRepository = new InMemoryChallengeRepository();
+        challengeValidator.setChallengeRepository(challengeRepository);
+
+        Challenge challenge = challengeRepository.issue();
+        CollectedClientData collectedClientData = new CollectedClientData(ClientDataType.GET, challenge, null, null);
+        ServerProperty serverProperty = new ServerProperty(null, null, challenge, null);
+
+        challengeValidator.validate(collectedClientData, serverProperty);
+        challengeValidator.consume(serverProperty);
+        assertThrows(BadChallengeException.class,
+                () -> challengeValidator.consume(serverProperty)
+        );
+    }
+
+    @Test
+    void verifyChallenge_test_with_challengeRepository_does_not_consume() {
+        ChallengeValidator challengeValidator = new ChallengeValidator();
+        InMemoryChallengeRepository challengeRepository = new InMemoryChallengeRepository();
+        challengeValidator.setChallengeRepository(challengeRepository);
+
+        Challenge challenge = challengeRepository.issue();
+        CollectedClientData collectedClientData = new CollectedClientData(ClientDataType.GET, challenge, null, null);
+        ServerProperty serverProperty = new ServerProperty(null, null, challenge, null);
+
+        challengeValidator.validate(collectedClientData, serverProperty);
+        assertThat(challengeRepository.consume(challenge)).isTrue();
+    }
+
+    @Test
+    void verifyChallenge_test_with_challengeRepository_and_different_challenge() {
+        ChallengeValidator challengeValidator = new ChallengeValidator();
+        InMemoryChallengeRepository challengeRepository = new InMemoryChallengeRepository();
+        challengeValidator.setChallengeRepository(challengeRepository);
+
+        Challenge challenge = challengeRepository.issue();
+        CollectedClientData collectedClientData = new CollectedClientData(ClientDataType.GET, new DefaultChallenge(), null, null);
+        ServerProperty serverProperty = new ServerProperty(null, null, challenge, null);
+
+        assertThrows(BadChallengeException.class,
+                () -> challengeValidator.validate(collectedClientData, serverProperty)
+        );
+        assertThat(challengeRepository.consume(challenge)).isTrue();
+    }
 }
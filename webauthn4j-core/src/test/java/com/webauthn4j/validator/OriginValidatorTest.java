@@ -19,11 +19,16 @@ package com.webauthn4j.validator;
 import com.webauthn4j.response.client.ClientDataType;
 import com.webauthn4j.response.client.CollectedClientData;
 import com.webauthn4j.response.client.Origin;
+import com.webauthn4j.server.RelyingPartyConfig;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.test.TestUtil;
 import com.webauthn4j.validator.exception.BadOriginException;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -54,4 +59,14 @@ class OriginValidatorTest {
                 () -> target.validate(collectedClientData, serverProperty)
         );
     }
+
+    @Test
+    void test_with_one_of_multiple_origins() {
+        Origin originA = new Origin("https://www.example.com");
+        Set<Origin> origins = new HashSet<>(Arrays.asList(new Origin("https://example.com"), new Origin("https://www.example.com")));
+
+        CollectedClientData collectedClientData = new CollectedClientData(ClientDataType.CREATE, TestUtil.createChallenge(), originA, null);
+        ServerProperty serverProperty = new ServerProperty(new RelyingPartyConfig("example.com", origins), TestUtil.createChallenge(), null);
+        target.validate(collectedClientData, serverProperty);
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.validator.attestation.trustworthiness.certpath;
+
+import com.webauthn4j.response.attestation.statement.AttestationCertificatePath;
+import com.webauthn4j.test.MutableClock;
+import com.webauthn4j.test.TestUtil;
+import com.webauthn4j.util.CertificateUtil;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.CertPathValidatorException;
+import java.security.cert.TrustAnchor;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CertPathValidationResultCacheTest {
+
+    private AttestationCertificatePath certPath = TestUtil.create2tierTestAuthenticatorCertPath();
+    private Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(Collections.singletonList(TestUtil.load2tierTestRootCACertificate()));
+    private TrustAnchor trustAnchor = trustAnchors.iterator().next();
+
+    @Test
+    void createKey_test() {
+        CertPathValidationResultCache target = new CertPathValidationResultCache();
+        Set<TrustAnchor> sameTrustAnchors = CertificateUtil.generateTrustAnchors(Collections.singletonList(TestUtil.load2tierTestRootCACertificate()));
+        Set<TrustAnchor> otherTrustAnchors = CertificateUtil.generateTrustAnchors(Collections.singletonList(TestUtil.load3tierTestRootCACertificate()));
+        Set<TrustAnchor> addedTrustAnchors = new HashSet<>(trustAnchors);
+        addedTrustAnchors.addAll(otherTrustAnchors);
+
+        assertThat(target.createKey(certPath, trustAnchors)).isEqualTo(target.createKey(certPath, sameTrustAnchors));
+        assertThat(target.createKey(certPath, trustAnchors)).isNotEqualTo(target.createKey(certPath, otherTrustAnchors));
+        assertThat(target.createKey(certPath, trustAnchors)).isNotEqualTo(target.createKey(certPath, addedTrustAnchors));
+        assertThat(target.createKey(certPath, trustAnchors)).isNotEqualTo(target.createKey(TestUtil.load3tierTestCertPath(), trustAnchors));
+    }
+
+    @Test
+    void putSuccess_test() {
+        CertPathValidationResultCache target = new CertPathValidationResultCache();
+        CertPathValidationResultCache.Key key = target.createKey(certPath, trustAnchors);
+        assertThat(target.get(key)).isNull();
+
+        target.putSuccess(key, certPath, trustAnchor);
+        CertPathValidationResultCache.Result result = target.get(key);
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.isFullChain()).isFalse();
+    }
+
+    @Test
+    void putSuccess_with_full_chain_test() {
+        CertPathValidationResultCache target = new CertPathValidationResultCache();
+        AttestationCertificatePath fullChain = new AttestationCertificatePath(Arrays.asList(
+                TestUtil.load2tierTestAuthenticatorAttestationCertificate(),
+                TestUtil.load2tierTestRootCACertificate()));
+        CertPathValidationResultCache.Key key = target.createKey(fullChain, trustAnchors);
+
+        target.putSuccess(key, fullChain, trustAnchor);
+        assertThat(target.get(key).isFullChain()).isTrue();
+    }
+
+    @Test
+    void putFailure_test() {
+        CertPathValidationResultCache target = new CertPathValidationResultCache();
+        CertPathValidationResultCache.Key key = target.createKey(certPath, trustAnchors);
+        CertPathValidatorException exception = new CertPathValidatorException("dummy", null, null, -1, CertPathValidatorException.BasicReason.EXPIRED);
+
+        target.putFailure(key, exception);
+        assertThat(target.get(key)).isNull();
+
+        target.setFailureCached(true);
+        target.putFailure(key, exception);
+        CertPathValidationResultCache.Result result = target.get(key);
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getException()).isNotSameAs(exception).hasMessage("dummy");
+        assertThat(result.getException().getReason()).isEqualTo(CertPathValidatorException.BasicReason.EXPIRED);
+        assertThat(result.getException()).isNotSameAs(result.getException());
+    }
+
+    @Test
+    void get_expired_by_timeToLive_test() {
+        MutableClock clock = new MutableClock(Instant.now());
+        CertPathValidationResultCache target = new CertPathValidationResultCache(10, Duration.ofMinutes(10), clock);
+        CertPathValidationResultCache.Key key = target.createKey(certPath, trustAnchors);
+        target.putSuccess(key, certPath, trustAnchor);
+
+        clock.advance(Duration.ofMinutes(9));
+        assertThat(target.get(key)).isNotNull();
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(target.get(key)).isNull();
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    void get_expired_by_notAfter_test() {
+        Instant notAfter = Stream.concat(certPath.stream(), Stream.of(trustAnchor.getTrustedCert()))
+                .map(certificate -> certificate.getNotAfter().toInstant())
+                .min(Comparator.naturalOrder()).orElseThrow(IllegalStateException::new);
+        MutableClock clock = new MutableClock(notAfter.minus(Duration.ofMinutes(1)));
+        CertPathValidationResultCache target = new CertPathValidationResultCache(10, Duration.ofDays(1), clock);
+        CertPathValidationResultCache.Key key = target.createKey(certPath, trustAnchors);
+        target.putSuccess(key, certPath, trustAnchor);
+
+        assertThat(target.get(key)).isNotNull();
+        clock.setInstant(notAfter);
+        assertThat(target.get(key)).isNull();
+    }
+
+    @Test
+    void eviction_test() {
+        CertPathValidationResultCache target = new CertPathValidationResultCache(1, Duration.ofMinutes(10));
+        AttestationCertificatePath otherCertPath = TestUtil.load3tierTestCertPath();
+        CertPathValidationResultCache.Key key = target.createKey(certPath, trustAnchors);
+        CertPathValidationResultCache.Key otherKey = target.createKey(otherCertPath, trustAnchors);
+
+        target.putSuccess(key, certPath, trustAnchor);
+        target.putSuccess(otherKey, otherCertPath, trustAnchor);
+        assertThat(target.size()).isEqualTo(1);
+        assertThat(target.get(key)).isNull();
+        assertThat(target.get(otherKey)).isNotNull();
+
+        target.clear();
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    void eviction_of_least_recently_used_test() {
+        CertPathValidationResultCache target = new CertPathValidationResultCache(2, Duration.ofMinutes(10));
+        Set<TrustAnchor> otherTrustAnchors = CertificateUtil.generateTrustAnchors(Collections.singletonList(TestUtil.load3tierTestRootCACertificate()));
+        CertPathValidationResultCache.Key keyA = target.createKey(certPath, trustAnchors);
+        CertPathValidationResultCache.Key keyB = target.createKey(certPath, otherTrustAnchors);
+        CertPathValidationResultCache.Key keyC = target.createKey(TestUtil.load3tierTestCertPath(), trustAnchors);
+
+        target.putSuccess(keyA, certPath, trustAnchor);
+        target.putSuccess(keyB, certPath, trustAnchor);
+        assertThat(target.get(keyA)).isNotNull();
+        target.putSuccess(keyC, certPath, trustAnchor);
+
+        assertThat(target.size()).isEqualTo(2);
+        assertThat(target.get(keyA)).isNotNull();
+        assertThat(target.get(keyB)).isNull();
+        assertThat(target.get(keyC)).isNotNull();
+    }
+}
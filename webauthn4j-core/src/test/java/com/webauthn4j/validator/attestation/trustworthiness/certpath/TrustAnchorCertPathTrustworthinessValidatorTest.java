@@ -85,8 +85,64 @@ class TrustAnchorCertPathTrustworthinessValidatorTest {
         );
     }
 
+    @Test
+    void validate_full_chain_with_cached_result_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestUtil.load3tierTestRootCACertificate()));
+        when(trustAnchorsResolver.resolve(aaguid)).thenReturn(trustAnchors);
+
+        AttestationCertificatePath attestationCertificatePath
+                = new AttestationCertificatePath(Arrays.asList(
+                TestUtil.load3tierTestAuthenticatorAttestationCertificate(),
+                TestUtil.load3tierTestIntermediateCACertificate(),
+                TestUtil.load3tierTestRootCACertificate()));
+
+        target.setCertPathValidationResultCache(new CertPathValidationResultCache());
+        CertificateBaseAttestationStatement attestationStatement = TestUtil.createFIDOU2FAttestationStatement(attestationCertificatePath);
+        target.validate(aaguid, attestationStatement);
+        assertThat(target.getCertPathValidationResultCache().size()).isEqualTo(1);
+
+        target.setFullChainProhibited(true);
+        assertThrows(CertificateException.class,
+                () -> target.validate(aaguid, attestationStatement)
+        );
+    }
+
+    @Test
+    void validate_with_cached_failure_test() {
+
+        when(trustAnchorsResolver.resolve(aaguid)).thenReturn(CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestUtil.load3tierTestRootCACertificate())));
+        CertPathValidationResultCache cache = new CertPathValidationResultCache();
+        cache.setFailureCached(true);
+        target.setCertPathValidationResultCache(cache);
+
+        CertificateBaseAttestationStatement attestationStatement = TestUtil.createFIDOU2FAttestationStatement(TestUtil.create2tierTestAuthenticatorCertPath());
+        assertThrows(CertificateException.class,
+                () -> target.validate(aaguid, attestationStatement)
+        );
+        assertThat(target.getCertPathValidationResultCache().size()).isEqualTo(1);
+        assertThrows(CertificateException.class,
+                () -> target.validate(aaguid, attestationStatement)
+        );
+    }
+
+    @Test
+    void validate_without_cache_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestUtil.load2tierTestRootCACertificate()));
+        when(trustAnchorsResolver.resolve(aaguid)).thenReturn(trustAnchors);
+
+        CertificateBaseAttestationStatement attestationStatement = TestUtil.createFIDOU2FAttestationStatement(TestUtil.create2tierTestAuthenticatorCertPath());
+        target.validate(aaguid, attestationStatement);
+        target.validate(aaguid, attestationStatement);
+    }
+
     @Test
     void test(){
         assertThat(target.isFullChainProhibited()).isFalse();
+        assertThat(target.getCertPathValidationResultCache()).isNull();
     }
 }
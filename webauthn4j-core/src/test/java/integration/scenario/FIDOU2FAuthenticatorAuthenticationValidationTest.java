@@ -17,6 +17,7 @@
 package integration.scenario;
 
 import com.webauthn4j.authenticator.Authenticator;
+import com.webauthn4j.authenticator.InMemorySignatureCounterStore;
 import com.webauthn4j.converter.AttestationObjectConverter;
 import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
 import com.webauthn4j.converter.util.CborConverter;
@@ -35,11 +36,14 @@ import com.webauthn4j.response.client.challenge.Challenge;
 import com.webauthn4j.response.client.challenge.DefaultChallenge;
 import com.webauthn4j.response.extension.client.AuthenticationExtensionClientOutput;
 import com.webauthn4j.response.extension.client.AuthenticationExtensionsClientOutputs;
+import com.webauthn4j.server.InMemoryChallengeRepository;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.test.TestUtil;
 import com.webauthn4j.test.authenticator.u2f.FIDOU2FAuthenticator;
 import com.webauthn4j.test.authenticator.u2f.FIDOU2FAuthenticatorAdaptor;
 import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.validator.AsyncWebAuthnAuthenticationContextValidator;
+import com.webauthn4j.validator.BatchValidationResult;
 import com.webauthn4j.validator.WebAuthnAuthenticationContextValidationResponse;
 import com.webauthn4j.validator.WebAuthnAuthenticationContextValidator;
 import com.webauthn4j.validator.exception.*;
@@ -47,6 +51,13 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -479,6 +490,235 @@ class FIDOU2FAuthenticatorAuthenticationValidationTest {
         );
     }
 
+    @Test
+    void validateAll_test() {
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+        AttestationObject attestationObjectA = createAttestationObject(rpId, challenge);
+        AttestationObject attestationObjectB = createAttestationObject(rpId, challenge);
+
+        WebAuthnAuthenticationContext authenticationContextA = createAuthenticationContext(rpId, challenge, attestationObjectA, new ServerProperty(origin, rpId, challenge, null));
+        WebAuthnAuthenticationContext authenticationContextB = createAuthenticationContext(rpId, challenge, attestationObjectB, new ServerProperty(origin, rpId, new DefaultChallenge(), null));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<BatchValidationResult<WebAuthnAuthenticationContextValidationResponse>> results = target.validateAll(
+                    Arrays.asList(authenticationContextA, authenticationContextB),
+                    Arrays.asList(TestUtil.createAuthenticator(attestationObjectA), TestUtil.createAuthenticator(attestationObjectB)),
+                    executor
+            ).join();
+
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).isSuccess()).isTrue();
+            assertThat(results.get(0).getResponse().getCollectedClientData()).isNotNull();
+            assertThat(results.get(1).isSuccess()).isFalse();
+            assertThat(results.get(1).getException()).isInstanceOf(BadChallengeException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void validate_asynchronously_test() {
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+        AttestationObject attestationObject = createAttestationObject(rpId, challenge);
+        WebAuthnAuthenticationContext authenticationContext = createAuthenticationContext(rpId, challenge, attestationObject, new ServerProperty(origin, rpId, challenge, null));
+        Authenticator authenticator = TestUtil.createAuthenticator(attestationObject);
+        AtomicLong storedCounter = new AtomicLong(-1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            AsyncWebAuthnAuthenticationContextValidator asyncTarget = new AsyncWebAuthnAuthenticationContextValidator(
+                    target,
+                    credentialId -> CompletableFuture.completedFuture(authenticator),
+                    (credentialId, updatedAuthenticator, expected, counter) -> {
+                        storedCounter.set(counter);
+                        return CompletableFuture.completedFuture(true);
+                    },
+                    executor
+            );
+            WebAuthnAuthenticationContextValidationResponse response = asyncTarget.validate(authenticationContext).toCompletableFuture().join();
+
+            assertThat(response.getCollectedClientData()).isNotNull();
+            assertThat(storedCounter.get()).isEqualTo(response.getAuthenticatorData().getSignCount());
+            assertThat(authenticator.getCounter()).isNotEqualTo(storedCounter.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void validate_asynchronously_with_unknown_credential_test() {
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+        AttestationObject attestationObject = createAttestationObject(rpId, challenge);
+        WebAuthnAuthenticationContext authenticationContext = createAuthenticationContext(rpId, challenge, attestationObject, new ServerProperty(origin, rpId, challenge, null));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncWebAuthnAuthenticationContextValidator asyncTarget = new AsyncWebAuthnAuthenticationContextValidator(
+                    credentialId -> CompletableFuture.completedFuture(null),
+                    (credentialId, authenticator, expected, counter) -> CompletableFuture.completedFuture(true),
+                    executor
+            );
+            CompletableFuture<WebAuthnAuthenticationContextValidationResponse> result = asyncTarget.validate(authenticationContext).toCompletableFuture();
+
+            CompletionException exception = assertThrows(CompletionException.class, result::join);
+            assertThat(exception.getCause()).isInstanceOf(CredentialNotFoundException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void validate_asynchronously_with_concurrently_updated_counter_test() {
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+        AttestationObject attestationObject = createAttestationObject(rpId, challenge);
+        WebAuthnAuthenticationContext authenticationContext = createAuthenticationContext(rpId, challenge, attestationObject, new ServerProperty(origin, rpId, challenge, null));
+        Authenticator authenticator = TestUtil.createAuthenticator(attestationObject);
+        AtomicLong storedCounter = new AtomicLong(authenticator.getCounter());
+        AtomicBoolean replayed = new AtomicBoolean();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            AsyncWebAuthnAuthenticationContextValidator asyncTarget = new AsyncWebAuthnAuthenticationContextValidator(
+                    target,
+                    credentialId -> {
+                        authenticator.setCounter(storedCounter.get());
+                        return CompletableFuture.completedFuture(authenticator);
+                    },
+                    (credentialId, updatedAuthenticator, expected, counter) -> {
+                        // the same assertion is stored first by a concurrent authentication
+                        if (replayed.compareAndSet(false, true)) {
+                            storedCounter.set(counter);
+                        }
+                        return CompletableFuture.completedFuture(storedCounter.compareAndSet(expected, counter));
+                    },
+                    executor
+            );
+            CompletableFuture<WebAuthnAuthenticationContextValidationResponse> result = asyncTarget.validate(authenticationContext).toCompletableFuture();
+
+            CompletionException exception = assertThrows(CompletionException.class, result::join);
+            assertThat(exception.getCause()).isInstanceOf(MaliciousCounterValueException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void validate_with_signatureCounterStore_test() {
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+        AttestationObject attestationObject = createAttestationObject(rpId, challenge);
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, challenge, null);
+        WebAuthnAuthenticationContext earlierContext = createAuthenticationContext(rpId, challenge, attestationObject, serverProperty);
+        WebAuthnAuthenticationContext laterContext = createAuthenticationContext(rpId, challenge, attestationObject, serverProperty);
+        Authenticator authenticator = TestUtil.createAuthenticator(attestationObject);
+        long initialCounter = authenticator.getCounter();
+
+        InMemorySignatureCounterStore signatureCounterStore = new InMemorySignatureCounterStore();
+        WebAuthnAuthenticationContextValidator validator = new WebAuthnAuthenticationContextValidator();
+        validator.setSignatureCounterStore(signatureCounterStore);
+
+        WebAuthnAuthenticationContextValidationResponse response = validator.validate(laterContext, authenticator);
+        assertThat(signatureCounterStore.getCounter(laterContext.getCredentialId(), authenticator)).isEqualTo(response.getAuthenticatorData().getSignCount());
+        assertThat(authenticator.getCounter()).isEqualTo(initialCounter);
+
+        // the assertion made before is detected as replayed even though the authenticator is not updated
+        assertThrows(MaliciousCounterValueException.class,
+                () -> validator.validate(earlierContext, authenticator)
+        );
+    }
+
+    @Test
+    void validate_asynchronously_with_signatureCounterStore_test() {
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+        AttestationObject attestationObject = createAttestationObject(rpId, challenge);
+        WebAuthnAuthenticationContext authenticationContext = createAuthenticationContext(rpId, challenge, attestationObject, new ServerProperty(origin, rpId, challenge, null));
+        Authenticator authenticator = TestUtil.createAuthenticator(attestationObject);
+        AtomicLong storedCounter = new AtomicLong(-1);
+
+        InMemorySignatureCounterStore signatureCounterStore = new InMemorySignatureCounterStore();
+        WebAuthnAuthenticationContextValidator validator = new WebAuthnAuthenticationContextValidator();
+        validator.setSignatureCounterStore(signatureCounterStore);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncWebAuthnAuthenticationContextValidator asyncTarget = new AsyncWebAuthnAuthenticationContextValidator(
+                    validator,
+                    credentialId -> CompletableFuture.completedFuture(authenticator),
+                    (credentialId, updatedAuthenticator, expected, counter) -> {
+                        storedCounter.set(counter);
+                        return CompletableFuture.completedFuture(true);
+                    },
+                    executor
+            );
+            WebAuthnAuthenticationContextValidationResponse response = asyncTarget.validate(authenticationContext).toCompletableFuture().join();
+
+            // the counter is stored through the async updater, not the blocking store
+            assertThat(storedCounter.get()).isEqualTo(response.getAuthenticatorData().getSignCount());
+            assertThat(signatureCounterStore.compareAndSet(authenticationContext.getCredentialId(), 0, 1)).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void validate_with_challengeRepository_test() {
+        String rpId = "example.com";
+        InMemoryChallengeRepository challengeRepository = new InMemoryChallengeRepository();
+        Challenge challenge = challengeRepository.issue();
+        AttestationObject attestationObject = createAttestationObject(rpId, challenge);
+        WebAuthnAuthenticationContext authenticationContext = createAuthenticationContext(rpId, challenge, attestationObject, new ServerProperty(origin, rpId, challenge, null));
+
+        WebAuthnAuthenticationContextValidator validator = new WebAuthnAuthenticationContextValidator();
+        validator.setChallengeRepository(challengeRepository);
+
+        // an assertion whose signature is not verified doesn't consume the challenge
+        Authenticator otherAuthenticator = TestUtil.createAuthenticator(createAttestationObject(rpId, challenge));
+        assertThrows(BadSignatureException.class,
+                () -> validator.validate(authenticationContext, otherAuthenticator)
+        );
+
+        validator.validate(authenticationContext, TestUtil.createAuthenticator(attestationObject));
+        assertThrows(BadChallengeException.class,
+                () -> validator.validate(authenticationContext, TestUtil.createAuthenticator(attestationObject))
+        );
+    }
+
+    private WebAuthnAuthenticationContext createAuthenticationContext(String rpId, Challenge challenge, AttestationObject attestationObject, ServerProperty serverProperty) {
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                rpId,
+                Collections.singletonList(
+                        new PublicKeyCredentialDescriptor(
+                                PublicKeyCredentialType.PUBLIC_KEY,
+                                attestationObject.getAuthenticatorData().getAttestedCredentialData().getCredentialId(),
+                                Arrays.asList(AuthenticatorTransport.USB, AuthenticatorTransport.NFC, AuthenticatorTransport.BLE)
+                        )
+                ),
+                UserVerificationRequirement.DISCOURAGED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        AuthenticatorAssertionResponse authenticationRequest = credential.getAuthenticatorResponse();
+        String clientExtensionJSON = authenticationExtensionsClientOutputsConverter.convertToString(credential.getClientExtensionResults());
+        return new WebAuthnAuthenticationContext(
+                credential.getRawId(),
+                authenticationRequest.getClientDataJSON(),
+                authenticationRequest.getAuthenticatorData(),
+                authenticationRequest.getSignature(),
+                clientExtensionJSON,
+                serverProperty,
+                false,
+                Collections.emptyList()
+        );
+    }
+
     private AttestationObject createAttestationObject(String rpId, Challenge challenge) {
         PublicKeyCredentialParameters publicKeyCredentialParameters
                 = new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256);
@@ -39,6 +39,7 @@ import com.webauthn4j.test.TestUtil;
 import com.webauthn4j.test.authenticator.u2f.FIDOU2FAuthenticatorAdaptor;
 import com.webauthn4j.test.client.ClientPlatform;
 import com.webauthn4j.test.client.RegistrationEmulationOption;
+import com.webauthn4j.validator.BatchValidationResult;
 import com.webauthn4j.validator.WebAuthnRegistrationContextValidationResponse;
 import com.webauthn4j.validator.WebAuthnRegistrationContextValidator;
 import com.webauthn4j.validator.attestation.statement.none.NoneAttestationStatementValidator;
@@ -51,6 +52,9 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -116,6 +120,28 @@ class FIDOU2FAuthenticatorRegistrationValidationTest {
         );
     }
 
+    @Test
+    void validateAll_test() {
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+        WebAuthnRegistrationContext registrationContextA = createRegistrationContext(rpId, challenge, new ServerProperty(origin, rpId, challenge, null));
+        WebAuthnRegistrationContext registrationContextB = createRegistrationContext(rpId, challenge, new ServerProperty(origin, "bad.example.com", challenge, null));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<BatchValidationResult<WebAuthnRegistrationContextValidationResponse>> results
+                    = target.validateAll(Arrays.asList(registrationContextA, registrationContextB), executor).join();
+
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).isSuccess()).isTrue();
+            assertThat(results.get(0).getResponse().getAttestationObject()).isNotNull();
+            assertThat(results.get(1).isSuccess()).isFalse();
+            assertThat(results.get(1).getException()).isInstanceOf(BadRpIdException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void validate_with_direct_attestation_conveyance_preference_test() {
         String rpId = "example.com";
@@ -369,4 +395,26 @@ class FIDOU2FAuthenticatorRegistrationValidationTest {
                 () -> target.validate(registrationContext)
         );
     }
+
+    private WebAuthnRegistrationContext createRegistrationContext(String rpId, Challenge challenge, ServerProperty serverProperty) {
+        PublicKeyCredentialParameters publicKeyCredentialParameters
+                = new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256);
+        PublicKeyCredentialCreationOptions credentialCreationOptions = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(rpId, "example.com"),
+                new PublicKeyCredentialUserEntity(),
+                challenge,
+                Collections.singletonList(publicKeyCredentialParameters)
+        );
+        PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> credential = clientPlatform.create(credentialCreationOptions);
+        AuthenticatorAttestationResponse registrationRequest = credential.getAuthenticatorResponse();
+        String clientExtensionJSON = authenticationExtensionsClientOutputsConverter.convertToString(credential.getClientExtensionResults());
+        return new WebAuthnRegistrationContext(
+                registrationRequest.getClientDataJSON(),
+                registrationRequest.getAttestationObject(),
+                clientExtensionJSON,
+                serverProperty,
+                false,
+                Collections.emptyList()
+        );
+    }
 }
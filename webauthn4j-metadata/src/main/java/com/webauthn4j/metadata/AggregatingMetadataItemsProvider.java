@@ -21,12 +21,14 @@ import com.webauthn4j.response.attestation.authenticator.AAGUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.*;
 
+/**
+ * Aggregates {@link MetadataItem}s provided by multiple {@link MetadataItemsProvider}s.
+ * <p>
+ * Delegates are read on every call, and each call returns a new mutable map. {@link MetadataItem} {@link Set}s of
+ * an AAGUID provided by multiple delegates are merged.
+ */
 public class AggregatingMetadataItemsProvider<T extends MetadataItem> implements MetadataItemsProvider<T> {
 
     private Logger logger = LoggerFactory.getLogger(AggregatingMetadataItemsProvider.class);
@@ -39,16 +41,19 @@ public class AggregatingMetadataItemsProvider<T extends MetadataItem> implements
 
     @Override
     public Map<AAGUID, Set<T>> provide() {
-        return metadataItemsProviders.stream()
-                .flatMap(provider -> {
-                    try {
-                        return provider.provide().entrySet().stream();
-                    } catch (RuntimeException e) {
-                        logger.warn("Failed to load metadata from one of metadataItemsProviders", e);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        Map<AAGUID, Set<T>> merged = new HashMap<>();
+        for (MetadataItemsProvider<T> metadataItemsProvider : metadataItemsProviders) {
+            Map<AAGUID, Set<T>> source;
+            try {
+                source = metadataItemsProvider.provide();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to load metadata from one of metadataItemsProviders", e);
+                continue;
+            }
+            for (Map.Entry<AAGUID, Set<T>> entry : source.entrySet()) {
+                merged.computeIfAbsent(entry.getKey(), key -> new HashSet<>()).addAll(entry.getValue());
+            }
+        }
+        return merged;
     }
 }
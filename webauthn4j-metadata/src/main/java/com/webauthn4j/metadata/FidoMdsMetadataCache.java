@@ -0,0 +1,147 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.util.MessageDigestUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache of the FIDO MDS TOC and metadata statements used by {@link FidoMdsMetadataItemsProvider}.
+ * <p>
+ * Metadata statements are stored as fetched, under the hex encoded hash listed in the TOC, and the hash is verified
+ * again on load. The TOC is stored as the JWS string, so that its signature and certification path are verified again on load.
+ * The cache is best effort: I/O failures are logged and reported as cache misses.
+ */
+class FidoMdsMetadataCache {
+
+    private static final String TOC_FILE_NAME = "toc.jwt";
+    private static final String STATEMENTS_DIRECTORY_NAME = "statements";
+
+    private final Logger logger = LoggerFactory.getLogger(FidoMdsMetadataCache.class);
+
+    private final Path directory;
+    private final Path statementsDirectory;
+
+    FidoMdsMetadataCache(Path directory) {
+        this.directory = directory;
+        this.statementsDirectory = directory.resolve(STATEMENTS_DIRECTORY_NAME);
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    String loadTOC() {
+        return read(directory.resolve(TOC_FILE_NAME));
+    }
+
+    void storeTOC(String toc) {
+        write(directory.resolve(TOC_FILE_NAME), toc);
+    }
+
+    /**
+     * Loads the metadata statement, in base64url encoded form as served by FIDO MDS
+     *
+     * @param hash SHA-256 hash of the base64url encoded metadata statement
+     * @return base64url encoded metadata statement, or null if it is not cached or broken
+     */
+    String loadMetadataStatement(byte[] hash) {
+        String metadataStatement = read(statementsDirectory.resolve(toHex(hash)));
+        if (metadataStatement == null) {
+            return null;
+        }
+        if (!Arrays.equals(MessageDigestUtil.digestSHA256(metadataStatement.getBytes(StandardCharsets.UTF_8)), hash)) {
+            logger.warn("Ignored cached metadata statement {}, as its hash doesn't match", toHex(hash));
+            return null;
+        }
+        return metadataStatement;
+    }
+
+    void storeMetadataStatement(byte[] hash, String metadataStatement) {
+        write(statementsDirectory.resolve(toHex(hash)), metadataStatement);
+    }
+
+    /**
+     * Deletes cached metadata statements other than the specified ones
+     *
+     * @param hashes hashes of metadata statements to retain
+     */
+    void retainMetadataStatements(Collection<byte[]> hashes) {
+        if (!Files.isDirectory(statementsDirectory)) {
+            return;
+        }
+        Set<String> retained = hashes.stream().map(FidoMdsMetadataCache::toHex).collect(Collectors.toSet());
+        try (Stream<Path> paths = Files.list(statementsDirectory)) {
+            for (Path path : paths.collect(Collectors.toList())) {
+                if (!retained.contains(path.getFileName().toString())) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to delete stale metadata statements from the cache", e);
+        }
+    }
+
+    private String read(Path path) {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Failed to read {} from the cache", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes to a temporary file first and moves it, so that readers never see a partially written file
+     */
+    private void write(Path path, String value) {
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temp, value.getBytes(StandardCharsets.UTF_8));
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to write {} to the cache", path, e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16));
+            builder.append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+}
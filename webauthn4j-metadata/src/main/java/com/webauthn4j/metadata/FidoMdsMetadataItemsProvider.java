@@ -24,6 +24,7 @@ import com.webauthn4j.metadata.data.toc.MetadataTOCPayload;
 import com.webauthn4j.metadata.data.toc.MetadataTOCPayloadEntry;
 import com.webauthn4j.metadata.exception.MDSException;
 import com.webauthn4j.response.attestation.authenticator.AAGUID;
+import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.Base64UrlUtil;
 import com.webauthn4j.util.CertificateUtil;
 import com.webauthn4j.util.MessageDigestUtil;
@@ -39,14 +40,35 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
-public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider<FidoMdsMetadataItem> {
+/**
+ * Provides {@link FidoMdsMetadataItem}s fetched from FIDO Metadata Service.
+ * <p>
+ * Refresh is single-flight: while a refresh is in progress, concurrent callers get the last fetched map instead of
+ * starting another download, and only wait for the refresh when nothing has been fetched yet.
+ * By default, a refresh runs on the caller's thread when {@code nextUpdate} has passed.
+ * {@link #startBackgroundRefresh()} moves refreshes to a background thread, which refreshes ahead of {@code nextUpdate}
+ * with jitter, so that callers never wait once the initial map is fetched.
+ * <p>
+ * When a cache directory is set by {@link #setCacheDirectory(Path)}, verified TOC and metadata statements are stored
+ * on disk. On startup, the cached TOC is used while its {@code nextUpdate} has not passed, and metadata statements
+ * are fetched only if they are not cached under the hash listed in the TOC.
+ */
+public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider<FidoMdsMetadataItem>, AutoCloseable {
 
     private static final String DEFAULT_FIDO_METADATA_SERVICE_ENDPOINT = "https://mds2.fidoalliance.org/";
+    private static final Duration DEFAULT_REFRESH_LEAD_TIME = Duration.ofHours(1);
+    private static final Duration DEFAULT_REFRESH_JITTER = Duration.ofMinutes(30);
+    private static final Duration DEFAULT_RETRY_INTERVAL = Duration.ofHours(1);
+    private static final int DEFAULT_MAX_CONCURRENT_FETCHES = 8;
+    private static final Duration DEFAULT_FETCH_TIMEOUT = Duration.ofMinutes(1);
 
     transient Logger logger = LoggerFactory.getLogger(FidoMdsMetadataItemsProvider.class);
 
@@ -56,9 +78,23 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider<FidoM
 
     private String fidoMetadataServiceEndpoint = DEFAULT_FIDO_METADATA_SERVICE_ENDPOINT;
 
-    Map<AAGUID, Set<FidoMdsMetadataItem>> cachedMetadataItemMap;
-    OffsetDateTime nextUpdate;
-    OffsetDateTime lastRefresh;
+    volatile Map<AAGUID, Set<FidoMdsMetadataItem>> cachedMetadataItemMap;
+    volatile OffsetDateTime nextUpdate;
+    volatile OffsetDateTime lastRefresh;
+    volatile OffsetDateTime retryNotBefore;
+
+    private final AtomicReference<CompletableFuture<Void>> inFlightRefresh = new AtomicReference<>();
+    private volatile ScheduledExecutorService scheduler;
+    private Duration refreshLeadTime = DEFAULT_REFRESH_LEAD_TIME;
+    private Duration refreshJitter = DEFAULT_REFRESH_JITTER;
+    private Duration retryInterval = DEFAULT_RETRY_INTERVAL;
+
+    private volatile FidoMdsMetadataCache metadataCache;
+    private volatile Map<String, FidoMdsMetadataItem> metadataItemsByHash = Collections.emptyMap();
+    private Executor fetchExecutor;
+    private ExecutorService ownedFetchExecutor;
+    private int maxConcurrentFetches = DEFAULT_MAX_CONCURRENT_FETCHES;
+    private Duration fetchTimeout = DEFAULT_FETCH_TIMEOUT;
 
     private TrustAnchor trustAnchor;
 
@@ -82,10 +118,61 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider<FidoM
 
     @Override
     public Map<AAGUID, Set<FidoMdsMetadataItem>> provide() {
-        if (needsRefresh()) {
-            refresh();
+        Map<AAGUID, Set<FidoMdsMetadataItem>> current = cachedMetadataItemMap;
+        if (current != null && (isBackgroundRefreshStarted() || !needsRefresh())) {
+            return current;
+        }
+        try {
+            if (refreshIfNotInFlight()) {
+                return cachedMetadataItemMap;
+            }
+        } catch (RuntimeException e) {
+            if (current == null) {
+                throw e;
+            }
+            retryNotBefore = OffsetDateTime.now(ZoneOffset.UTC).plus(retryInterval);
+            logger.warn("Failed to refresh metadata. Cached metadata is used until the retry interval elapses", e);
+            return current;
+        }
+        if (current != null) {
+            return current;
+        }
+        waitForInFlightRefresh();
+        return provide();
+    }
+
+    /**
+     * Starts refreshing metadata on a background daemon thread. The initial fetch is also started in the background.
+     */
+    public synchronized void startBackgroundRefresh() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "webauthn4j-fido-mds-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.execute(this::backgroundRefresh);
+    }
+
+    public boolean isBackgroundRefreshStarted() {
+        return scheduler != null;
+    }
+
+    /**
+     * Stops refreshing metadata in background
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        if (ownedFetchExecutor != null) {
+            ownedFetchExecutor.shutdownNow();
+            ownedFetchExecutor = null;
         }
-        return cachedMetadataItemMap;
     }
 
 
@@ -97,37 +184,257 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider<FidoM
         this.fidoMetadataServiceEndpoint = fidoMetadataServiceEndpoint;
     }
 
+    public Path getCacheDirectory() {
+        FidoMdsMetadataCache cache = metadataCache;
+        return cache == null ? null : cache.getDirectory();
+    }
+
+    /**
+     * Sets the directory to cache the TOC and metadata statements. Caching on disk is disabled by setting null.
+     *
+     * @param cacheDirectory cache directory
+     */
+    public void setCacheDirectory(Path cacheDirectory) {
+        this.metadataCache = cacheDirectory == null ? null : new FidoMdsMetadataCache(cacheDirectory);
+    }
+
+    public Executor getFetchExecutor() {
+        return fetchExecutor;
+    }
+
+    /**
+     * Sets the executor to fetch metadata statements on. If it is not set, a pool of daemon threads owned by the provider
+     * is used, so that blocking fetches never run on the common {@link ForkJoinPool}. Its idle threads are released
+     * between refreshes, and it is shut down by {@link #close()}.
+     *
+     * @param fetchExecutor executor
+     */
+    public void setFetchExecutor(Executor fetchExecutor) {
+        this.fetchExecutor = fetchExecutor;
+    }
+
+    public int getMaxConcurrentFetches() {
+        return maxConcurrentFetches;
+    }
+
+    /**
+     * Sets the maximum number of metadata statements fetched concurrently, which applies to {@link #getFetchExecutor()} too
+     *
+     * @param maxConcurrentFetches maximum number of concurrent fetches
+     */
+    public synchronized void setMaxConcurrentFetches(int maxConcurrentFetches) {
+        AssertUtil.isTrue(maxConcurrentFetches > 0, "maxConcurrentFetches must be positive");
+        this.maxConcurrentFetches = maxConcurrentFetches;
+        if (ownedFetchExecutor != null) {
+            ownedFetchExecutor.shutdown(); // resized on the next refresh
+            ownedFetchExecutor = null;
+        }
+    }
+
+    public Duration getFetchTimeout() {
+        return fetchTimeout;
+    }
+
+    /**
+     * Sets how long a refresh waits for metadata statements in total. Metadata statements not fetched in time are skipped,
+     * and their fetches are cancelled.
+     *
+     * @param fetchTimeout fetch timeout
+     */
+    public void setFetchTimeout(Duration fetchTimeout) {
+        AssertUtil.notNull(fetchTimeout, "fetchTimeout must not be null");
+        this.fetchTimeout = fetchTimeout;
+    }
+
+    public Duration getRefreshLeadTime() {
+        return refreshLeadTime;
+    }
+
+    /**
+     * Sets how long before {@code nextUpdate} the background refresh is performed
+     *
+     * @param refreshLeadTime lead time
+     */
+    public void setRefreshLeadTime(Duration refreshLeadTime) {
+        AssertUtil.notNull(refreshLeadTime, "refreshLeadTime must not be null");
+        this.refreshLeadTime = refreshLeadTime;
+    }
+
+    public Duration getRefreshJitter() {
+        return refreshJitter;
+    }
+
+    /**
+     * Sets the upper bound of the random delay subtracted from the background refresh time,
+     * which spreads refreshes of a cluster over time
+     *
+     * @param refreshJitter jitter
+     */
+    public void setRefreshJitter(Duration refreshJitter) {
+        AssertUtil.notNull(refreshJitter, "refreshJitter must not be null");
+        this.refreshJitter = refreshJitter;
+    }
+
+    public Duration getRetryInterval() {
+        return retryInterval;
+    }
+
+    /**
+     * Sets the interval of background refresh after a failure, or when {@code nextUpdate} is not advanced by the refresh.
+     * Without background refresh, it is the interval during which cached metadata is served after a failed refresh.
+     *
+     * @param retryInterval retry interval
+     */
+    public void setRetryInterval(Duration retryInterval) {
+        AssertUtil.notNull(retryInterval, "retryInterval must not be null");
+        this.retryInterval = retryInterval;
+    }
+
+    /**
+     * Refreshes metadata on the current thread unless another refresh is in flight
+     *
+     * @return true if refreshed by the current thread
+     */
+    private boolean refreshIfNotInFlight() {
+        CompletableFuture<Void> refresh = new CompletableFuture<>();
+        if (!inFlightRefresh.compareAndSet(null, refresh)) {
+            return false;
+        }
+        try {
+            refresh();
+            refresh.complete(null);
+            return true;
+        } catch (RuntimeException e) {
+            refresh.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRefresh.set(null);
+        }
+    }
+
+    private void waitForInFlightRefresh() {
+        CompletableFuture<Void> refresh = inFlightRefresh.get();
+        if (refresh != null) {
+            try {
+                refresh.join();
+            } catch (CompletionException e) {
+                throw new MDSException("Failed to refresh metadata", e.getCause());
+            }
+        }
+    }
+
+    private void backgroundRefresh() {
+        Duration delay;
+        try {
+            if (!refreshIfNotInFlight()) {
+                waitForInFlightRefresh(); // a refresh on a caller thread is in flight only before the initial fetch completes
+            }
+            OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+            long jitterMillis = refreshJitter.isZero() ? 0 : ThreadLocalRandom.current().nextLong(refreshJitter.toMillis());
+            delay = Duration.between(now, nextUpdate.minus(refreshLeadTime)).minusMillis(jitterMillis);
+            if (delay.compareTo(retryInterval) < 0) {
+                delay = retryInterval;
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to refresh metadata in background", e);
+            delay = retryInterval;
+        }
+        synchronized (this) {
+            if (scheduler != null) {
+                scheduler.schedule(this::backgroundRefresh, delay.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
     private void refresh() {
-        MetadataTOCPayload tocPayload = fetchMetadataTOCPayload();
-
-        cachedMetadataItemMap =
-                tocPayload.getEntries().parallelStream().map(entry -> {
-                    try {
-                        return fetchFidoMdsMetadataItem(entry);
-                    } catch (RuntimeException e) {
-                        logger.warn("Failed to fetch MetadataTOCPayLoad", e);
-                        return null;
-                    }
-                })
-                        .filter(Objects::nonNull)
-                        .distinct()
-                        .collect(Collectors.groupingBy(item -> new AAGUID(item.getMetadataStatement().getAaguid())))
-                        .entrySet().stream()
-                        .collect(Collectors.toMap(Map.Entry::getKey, entry -> Collections.unmodifiableSet(new HashSet<>(entry.getValue()))));
+        MetadataTOCPayload tocPayload = null;
+        if (cachedMetadataItemMap == null) {
+            tocPayload = loadMetadataTOCPayloadFromCache();
+        }
+        if (tocPayload == null) {
+            tocPayload = fetchMetadataTOCPayload();
+        }
+
+        Map<String, FidoMdsMetadataItem> previousMetadataItems = metadataItemsByHash;
+        List<FidoMdsMetadataItem> metadataItems = fetchFidoMdsMetadataItems(tocPayload.getEntries(), previousMetadataItems).stream()
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<AAGUID, Set<FidoMdsMetadataItem>> metadataItemMap = cachedMetadataItemMap;
+        boolean unchanged = metadataItemMap != null && metadataItems.size() == previousMetadataItems.size() &&
+                metadataItems.stream().allMatch(item -> previousMetadataItems.get(item.getHash()) == item);
+        if (!unchanged) {
+            metadataItemMap = metadataItems.stream()
+                    .collect(Collectors.groupingBy(item -> new AAGUID(item.getMetadataStatement().getAaguid())))
+                    .entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, entry -> Collections.unmodifiableSet(new HashSet<>(entry.getValue()))));
+            metadataItemsByHash = metadataItems.stream()
+                    .collect(Collectors.toMap(FidoMdsMetadataItem::getHash, item -> item, (a, b) -> a));
+        }
 
         nextUpdate = tocPayload.getNextUpdate().atStartOfDay().atOffset(ZoneOffset.UTC);
         lastRefresh = OffsetDateTime.now(ZoneOffset.UTC);
+        cachedMetadataItemMap = metadataItemMap; // published last, as needsRefresh reads nextUpdate once a map is published
+
+        FidoMdsMetadataCache cache = metadataCache;
+        if (cache != null) {
+            cache.retainMetadataStatements(tocPayload.getEntries().stream()
+                    .map(entry -> Base64UrlUtil.decode(entry.getHash())).collect(Collectors.toList()));
+        }
     }
 
     boolean needsRefresh() {
         OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
-        return cachedMetadataItemMap == null || (nextUpdate.isBefore(now) && lastRefresh.isBefore(now.minusHours(1)));
+        if (cachedMetadataItemMap == null) {
+            return true;
+        }
+        OffsetDateTime retry = retryNotBefore;
+        return nextUpdate.isBefore(now) && lastRefresh.isBefore(now.minusHours(1)) && (retry == null || !retry.isAfter(now));
     }
 
     MetadataTOCPayload fetchMetadataTOCPayload() {
         String url = fidoMetadataServiceEndpoint;
         String toc = httpClient.fetch(url);
+        MetadataTOCPayload tocPayload = parseMetadataTOCPayload(toc);
+
+        FidoMdsMetadataCache cache = metadataCache;
+        if (cache != null) {
+            cache.storeTOC(toc);
+        }
+        return tocPayload;
+    }
+
+    /**
+     * Loads the cached TOC
+     *
+     * @return TOC payload, or null if it is not cached, invalid, or its nextUpdate has passed
+     */
+    private MetadataTOCPayload loadMetadataTOCPayloadFromCache() {
+        FidoMdsMetadataCache cache = metadataCache;
+        String toc = cache == null ? null : cache.loadTOC();
+        if (toc == null) {
+            return null;
+        }
+        MetadataTOCPayload tocPayload;
+        try {
+            tocPayload = parseMetadataTOCPayload(toc);
+        } catch (RuntimeException e) {
+            logger.warn("Ignored cached MetadataTOCPayload, as it is invalid", e);
+            return null;
+        }
+        if (tocPayload.getNextUpdate().atStartOfDay().atOffset(ZoneOffset.UTC).isBefore(OffsetDateTime.now(ZoneOffset.UTC))) {
+            return null;
+        }
+        return tocPayload;
+    }
 
+    /**
+     * Parses the TOC and verifies its signature and certification path
+     *
+     * @param toc TOC in JWS form
+     * @return TOC payload
+     */
+    MetadataTOCPayload parseMetadataTOCPayload(String toc) {
         JWS<MetadataTOCPayload> jws = JWS.parse(toc, jsonConverter, MetadataTOCPayload.class);
         if (!jws.isValidSignature()) {
             throw new MDSException("invalid signature");
@@ -136,8 +443,109 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider<FidoM
         return jws.getPayload();
     }
 
-    private FidoMdsMetadataItem fetchFidoMdsMetadataItem(MetadataTOCPayloadEntry entry) {
-        MetadataStatement metadataStatement = fetchMetadataStatement(entry.getUrl().toString(), Base64UrlUtil.decode(entry.getHash()));
+    /**
+     * Resolves items for TOC entries on {@link #getFetchExecutor()}, or on the pool owned by the provider if it is not set.
+     * At most {@link #getMaxConcurrentFetches()} entries are resolved at a time, by submitting only that many workers
+     * draining a shared queue. Entries failed or not resolved within {@link #getFetchTimeout()} from the start are skipped.
+     */
+    private List<FidoMdsMetadataItem> fetchFidoMdsMetadataItems(List<MetadataTOCPayloadEntry> entries, Map<String, FidoMdsMetadataItem> previousMetadataItems) {
+        if (entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+        long deadline = System.nanoTime() + fetchTimeout.toNanos();
+        int concurrency = Math.min(maxConcurrentFetches, entries.size());
+        Executor executor = fetchExecutor;
+        ExecutorService ownedExecutor = executor == null ? getOwnedFetchExecutor() : null;
+        if (executor == null) {
+            executor = ownedExecutor;
+        }
+        List<FutureTask<FidoMdsMetadataItem>> futures = new ArrayList<>(entries.size());
+        Queue<FutureTask<FidoMdsMetadataItem>> tasks = new ConcurrentLinkedQueue<>();
+        for (MetadataTOCPayloadEntry entry : entries) {
+            FutureTask<FidoMdsMetadataItem> future = new FutureTask<>(() -> resolveFidoMdsMetadataItem(entry, previousMetadataItems));
+            futures.add(future);
+            tasks.add(future);
+        }
+        for (int i = 0; i < concurrency; i++) {
+            executor.execute(() -> drainFetchTasks(tasks, ownedExecutor));
+        }
+
+        List<FidoMdsMetadataItem> metadataItems = new ArrayList<>(entries.size());
+        for (FutureTask<FidoMdsMetadataItem> future : futures) {
+            try {
+                metadataItems.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (ExecutionException e) {
+                logger.warn("Failed to fetch MetadataTOCPayLoad", e.getCause());
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                logger.warn("Timed out fetching MetadataTOCPayLoad");
+            } catch (CancellationException e) {
+                logger.warn("Fetching MetadataTOCPayLoad is cancelled");
+            } catch (InterruptedException e) {
+                futures.forEach(item -> item.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new MDSException("Interrupted while fetching metadata statements", e);
+            }
+        }
+        return metadataItems;
+    }
+
+    /**
+     * Runs fetch tasks until the queue is drained. A worker interrupted by anything other than the cancellation of its
+     * own task, such as the shutdown of the executor, keeps the interrupt and cancels the tasks left in the queue.
+     * The interrupt caused by a cancelled task is cleared only on the pool owned by the provider, as the interrupt
+     * status of threads of a caller-supplied executor is left to the executor.
+     */
+    private static void drainFetchTasks(Queue<FutureTask<FidoMdsMetadataItem>> tasks, ExecutorService ownedExecutor) {
+        FutureTask<FidoMdsMetadataItem> task;
+        while (!Thread.currentThread().isInterrupted() && (task = tasks.poll()) != null) {
+            task.run(); // a cancelled task returns immediately
+            if (Thread.currentThread().isInterrupted() && task.isCancelled() && ownedExecutor != null && !ownedExecutor.isShutdown()) {
+                Thread.interrupted(); // clears the interrupt of a fetch cancelled while running
+            }
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            while ((task = tasks.poll()) != null) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    private synchronized ExecutorService getOwnedFetchExecutor() {
+        if (ownedFetchExecutor == null) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConcurrentFetches, maxConcurrentFetches,
+                    1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "webauthn4j-fido-mds-fetcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            ownedFetchExecutor = executor;
+        }
+        return ownedFetchExecutor;
+    }
+
+    /**
+     * Reuses the item of the previous TOC with the same hash, so that only new or changed metadata statements are fetched.
+     * The item itself is reused by identity if the TOC entry is unchanged too, as status reports can change without
+     * changing the metadata statement.
+     */
+    private FidoMdsMetadataItem resolveFidoMdsMetadataItem(MetadataTOCPayloadEntry entry, Map<String, FidoMdsMetadataItem> previousMetadataItems) {
+        FidoMdsMetadataItem previous = previousMetadataItems.get(entry.getHash());
+        if (previous == null) {
+            return createFidoMdsMetadataItem(entry, fetchMetadataStatement(entry.getUrl().toString(), Base64UrlUtil.decode(entry.getHash())));
+        }
+        if (Objects.equals(previous.getAaid(), entry.getAaid()) &&
+                Objects.equals(previous.getAaguid(), new AAGUID(entry.getAaguid())) &&
+                Objects.equals(previous.getAttestationCertificateKeyIdentifiers(), entry.getAttestationCertificateKeyIdentifiers()) &&
+                Objects.equals(previous.getStatusReports(), entry.getStatusReports()) &&
+                Objects.equals(previous.getTimeOfLastStatusChange(), entry.getTimeOfLastStatusChange())) {
+            return previous;
+        }
+        return createFidoMdsMetadataItem(entry, previous.getMetadataStatement());
+    }
+
+    private FidoMdsMetadataItem createFidoMdsMetadataItem(MetadataTOCPayloadEntry entry, MetadataStatement metadataStatement) {
         return new FidoMdsMetadataItemImpl(
                 entry.getAaid(),
                 new AAGUID(entry.getAaguid()),
@@ -169,12 +577,19 @@ public class FidoMdsMetadataItemsProvider implements MetadataItemsProvider<FidoM
     }
 
     MetadataStatement fetchMetadataStatement(String uri, byte[] expectedHash) {
-        String metadataStatementBase64url = httpClient.fetch(uri);
-        String metadataStatementStr = new String(Base64UrlUtil.decode(metadataStatementBase64url));
-        byte[] hash = MessageDigestUtil.createSHA256().digest(metadataStatementBase64url.getBytes(StandardCharsets.UTF_8));
-        if (!Arrays.equals(hash, expectedHash)) {
-            throw new MDSException("Hash of metadataStatement doesn't match");
+        FidoMdsMetadataCache cache = metadataCache;
+        String metadataStatementBase64url = cache == null ? null : cache.loadMetadataStatement(expectedHash);
+        if (metadataStatementBase64url == null) {
+            metadataStatementBase64url = httpClient.fetch(uri);
+            byte[] hash = MessageDigestUtil.digestSHA256(metadataStatementBase64url.getBytes(StandardCharsets.UTF_8));
+            if (!Arrays.equals(hash, expectedHash)) {
+                throw new MDSException("Hash of metadataStatement doesn't match");
+            }
+            if (cache != null) {
+                cache.storeMetadataStatement(expectedHash, metadataStatementBase64url);
+            }
         }
+        String metadataStatementStr = new String(Base64UrlUtil.decode(metadataStatementBase64url));
         return jsonConverter.readValue(metadataStatementStr, MetadataStatement.class);
     }
 
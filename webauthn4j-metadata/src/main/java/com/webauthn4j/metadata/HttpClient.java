@@ -16,6 +16,10 @@
 
 package com.webauthn4j.metadata;
 
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * HTTP Client for FIDO FidoMdsMetadataItemImpl Service
  */
@@ -23,4 +27,27 @@ public interface HttpClient {
 
     String fetch(String uri);
 
+    /**
+     * Fetches the resource asynchronously on a shared pool of a bounded number of daemon threads.
+     * Implementations backed by a non-blocking HTTP client should override it.
+     *
+     * @param uri uri
+     * @return future completed with the response body
+     */
+    default CompletableFuture<byte[]> fetchAsync(String uri) {
+        return fetchAsync(uri, HttpClientExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * Fetches the resource asynchronously on the specified executor.
+     * The default implementation runs {@link #fetch(String)} on it.
+     *
+     * @param uri      uri
+     * @param executor executor to run the fetch, or to complete the future on
+     * @return future completed with the response body
+     */
+    default CompletableFuture<byte[]> fetchAsync(String uri, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> fetch(uri).getBytes(StandardCharsets.UTF_8), executor);
+    }
+
 }
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.util.AssertUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link HttpClient} backed by the java.net.http client of JDK 11 and later, which can be used when {@link #isAvailable()}
+ * returns true.
+ * <p>
+ * As this module targets Java 8, the JDK client is accessed reflectively. Requests are sent without blocking on the shared
+ * pool of a bounded number of daemon threads, and the response body is read on the executor passed to
+ * {@link #fetchAsync(String, Executor)}, so that a body larger than {@link #getMaxResponseSize()} is rejected without
+ * buffering it.
+ */
+public class JdkHttpClient implements HttpClient {
+
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30);
+    private static final int DEFAULT_MAX_RESPONSE_SIZE = 32 * 1024 * 1024;
+
+    private static final JdkHttp JDK_HTTP = JdkHttp.load();
+
+    //~ Instance fields
+    // ================================================================================================
+    private final Object client;
+    private Duration readTimeout = DEFAULT_READ_TIMEOUT;
+    private int maxResponseSize = DEFAULT_MAX_RESPONSE_SIZE;
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    public JdkHttpClient(Duration connectTimeout) {
+        AssertUtil.notNull(connectTimeout, "connectTimeout must not be null");
+        AssertUtil.isTrue(isAvailable(), "java.net.http is not available on this runtime");
+        this.client = JDK_HTTP.newClient(connectTimeout, HttpClientExecutors.getDefaultExecutor());
+    }
+
+    public JdkHttpClient() {
+        this(DEFAULT_CONNECT_TIMEOUT);
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Returns true if the runtime provides java.net.http
+     *
+     * @return true if {@link JdkHttpClient} can be used
+     */
+    public static boolean isAvailable() {
+        return JDK_HTTP != null;
+    }
+
+    @Override
+    public String fetch(String uri) {
+        try {
+            return new String(fetchAsync(uri, Runnable::run).join(), StandardCharsets.UTF_8);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<byte[]> fetchAsync(String uri) {
+        return fetchAsync(uri, HttpClientExecutors.getDefaultExecutor());
+    }
+
+    @Override
+    public CompletableFuture<byte[]> fetchAsync(String uri, Executor executor) {
+        AssertUtil.notNull(executor, "executor must not be null");
+        CompletableFuture<Object> responseFuture;
+        try {
+            responseFuture = JDK_HTTP.sendAsync(client, JDK_HTTP.newRequest(URI.create(uri), readTimeout));
+        } catch (RuntimeException e) {
+            CompletableFuture<byte[]> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        return responseFuture
+                .handle((response, throwable) -> {
+                    if (throwable != null) {
+                        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                        throw new MDSException("failed to fetch " + uri, cause);
+                    }
+                    return response;
+                })
+                .thenApplyAsync(response -> readBody(uri, response), executor);
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * Sets the timeout until the response headers are received
+     *
+     * @param readTimeout read timeout
+     */
+    public void setReadTimeout(Duration readTimeout) {
+        AssertUtil.notNull(readTimeout, "readTimeout must not be null");
+        this.readTimeout = readTimeout;
+    }
+
+    public int getMaxResponseSize() {
+        return maxResponseSize;
+    }
+
+    /**
+     * Sets the maximum size of a response body in bytes
+     *
+     * @param maxResponseSize maximum response size
+     */
+    public void setMaxResponseSize(int maxResponseSize) {
+        AssertUtil.isTrue(maxResponseSize > 0, "maxResponseSize must be positive");
+        this.maxResponseSize = maxResponseSize;
+    }
+
+    private byte[] readBody(String uri, Object response) {
+        try (InputStream inputStream = JDK_HTTP.body(response)) {
+            if (JDK_HTTP.statusCode(response) != 200) {
+                throw new MDSException("failed to fetch " + uri);
+            }
+            return SimpleHttpClient.readFully(inputStream, JDK_HTTP.contentLength(response), uri, maxResponseSize);
+        } catch (IOException e) {
+            throw new MDSException("failed to fetch " + uri, e);
+        }
+    }
+
+    /**
+     * Reflective access to java.net.http
+     */
+    private static final class JdkHttp {
+
+        private final Method newClientBuilder;
+        private final Method clientBuilderConnectTimeout;
+        private final Method clientBuilderExecutor;
+        private final Method clientBuilderBuild;
+        private final Method newRequestBuilder;
+        private final Method requestBuilderTimeout;
+        private final Method requestBuilderBuild;
+        private final Method sendAsync;
+        private final Object bodyHandler;
+        private final Method statusCode;
+        private final Method body;
+        private final Method headers;
+        private final Method firstValueAsLong;
+
+        private JdkHttp() throws ReflectiveOperationException {
+            Class<?> clientClass = Class.forName("java.net.http.HttpClient");
+            Class<?> clientBuilderClass = Class.forName("java.net.http.HttpClient$Builder");
+            Class<?> requestClass = Class.forName("java.net.http.HttpRequest");
+            Class<?> requestBuilderClass = Class.forName("java.net.http.HttpRequest$Builder");
+            Class<?> responseClass = Class.forName("java.net.http.HttpResponse");
+            Class<?> bodyHandlerClass = Class.forName("java.net.http.HttpResponse$BodyHandler");
+            Class<?> bodyHandlersClass = Class.forName("java.net.http.HttpResponse$BodyHandlers");
+            Class<?> headersClass = Class.forName("java.net.http.HttpHeaders");
+
+            newClientBuilder = clientClass.getMethod("newBuilder");
+            clientBuilderConnectTimeout = clientBuilderClass.getMethod("connectTimeout", Duration.class);
+            clientBuilderExecutor = clientBuilderClass.getMethod("executor", Executor.class);
+            clientBuilderBuild = clientBuilderClass.getMethod("build");
+            newRequestBuilder = requestClass.getMethod("newBuilder", URI.class);
+            requestBuilderTimeout = requestBuilderClass.getMethod("timeout", Duration.class);
+            requestBuilderBuild = requestBuilderClass.getMethod("build");
+            sendAsync = clientClass.getMethod("sendAsync", requestClass, bodyHandlerClass);
+            bodyHandler = bodyHandlersClass.getMethod("ofInputStream").invoke(null);
+            statusCode = responseClass.getMethod("statusCode");
+            body = responseClass.getMethod("body");
+            headers = responseClass.getMethod("headers");
+            firstValueAsLong = headersClass.getMethod("firstValueAsLong", String.class);
+        }
+
+        static JdkHttp load() {
+            try {
+                return new JdkHttp();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return null;
+            }
+        }
+
+        Object newClient(Duration connectTimeout, Executor executor) {
+            Object builder = invoke(newClientBuilder, null);
+            invoke(clientBuilderConnectTimeout, builder, connectTimeout);
+            invoke(clientBuilderExecutor, builder, executor);
+            return invoke(clientBuilderBuild, builder);
+        }
+
+        Object newRequest(URI uri, Duration timeout) {
+            Object builder = invoke(newRequestBuilder, null, uri);
+            invoke(requestBuilderTimeout, builder, timeout);
+            return invoke(requestBuilderBuild, builder);
+        }
+
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Object> sendAsync(Object client, Object request) {
+            return (CompletableFuture<Object>) invoke(sendAsync, client, request, bodyHandler);
+        }
+
+        int statusCode(Object response) {
+            return (Integer) invoke(statusCode, response);
+        }
+
+        InputStream body(Object response) {
+            return (InputStream) invoke(body, response);
+        }
+
+        long contentLength(Object response) {
+            OptionalLong contentLength = (OptionalLong) invoke(firstValueAsLong, invoke(headers, response), "Content-Length");
+            return contentLength.orElse(-1);
+        }
+
+        private static Object invoke(Method method, Object target, Object... args) {
+            try {
+                return method.invoke(target, args);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+}
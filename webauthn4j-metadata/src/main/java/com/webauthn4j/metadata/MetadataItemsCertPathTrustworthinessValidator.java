@@ -27,8 +27,9 @@ import com.webauthn4j.validator.exception.BadAttestationStatementException;
 import com.webauthn4j.validator.exception.CertificateException;
 
 import java.security.cert.TrustAnchor;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 /**
@@ -37,8 +38,16 @@ import java.util.stream.Collectors;
 @WIP
 public class MetadataItemsCertPathTrustworthinessValidator<T extends MetadataItem> extends CertPathTrustworthinessValidatorBase {
 
+    private static final int TRUST_ANCHORS_CACHE_MAXIMUM_SIZE = 1024;
+
     private MetadataItemsResolver<T> metadataItemsResolver;
 
+    /**
+     * {@link TrustAnchor} sets keyed by a copy of the resolved {@link MetadataItem} set, so that they are built once per
+     * distinct set of metadata items, which are immutable. The cache is simply cleared when it is full.
+     */
+    private final ConcurrentMap<Set<T>, Set<TrustAnchor>> trustAnchorsCache = new ConcurrentHashMap<>();
+
     public MetadataItemsCertPathTrustworthinessValidator(MetadataItemsResolver<T> metadataItemsResolver) {
         this.metadataItemsResolver = metadataItemsResolver;
     }
@@ -92,11 +101,19 @@ public class MetadataItemsCertPathTrustworthinessValidator<T extends MetadataIte
 
     @Override
     protected Set<TrustAnchor> resolveTrustAnchors(AAGUID aaguid) {
-        return metadataItemsResolver.resolve(aaguid).stream()
+        Set<T> metadataItems = metadataItemsResolver.resolve(aaguid);
+        Set<TrustAnchor> trustAnchors = trustAnchorsCache.get(metadataItems);
+        if (trustAnchors != null) {
+            return trustAnchors;
+        }
+        trustAnchors = Collections.unmodifiableSet(metadataItems.stream()
                 .flatMap(metadataItem -> metadataItem.getMetadataStatement().getAttestationRootCertificates().stream())
                 .map(certificate -> new TrustAnchor(certificate, null))
-                .collect(Collectors.toSet());
+                .collect(Collectors.toSet()));
+        if (trustAnchorsCache.size() >= TRUST_ANCHORS_CACHE_MAXIMUM_SIZE) {
+            trustAnchorsCache.clear();
+        }
+        trustAnchorsCache.put(Collections.unmodifiableSet(new HashSet<>(metadataItems)), trustAnchors);
+        return trustAnchors;
     }
-
-
 }
@@ -25,6 +25,11 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * Resolves {@link MetadataItem} {@link Set} from {@link MetadataItemsProvider}.
+ * The provided map is read on every call, so that changes made to it are reflected immediately.
+ * Each call returns a new mutable set.
+ */
 public class MetadataItemsResolverImpl<T extends MetadataItem> implements MetadataItemsResolver<T> {
 
     private MetadataItemsProvider<T> metadataItemsProvider;
@@ -17,40 +17,144 @@
 package com.webauthn4j.metadata;
 
 import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.util.AssertUtil;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+/**
+ * {@link HttpClient} backed by {@link HttpURLConnection}.
+ * <p>
+ * Response bodies are read fully and streams are closed, so that the JDK keeps connections alive for reuse.
+ * A response body larger than {@link #getMaxResponseSize()} is rejected, and the declared Content-Length is trusted
+ * only up to a small initial buffer size. {@link #fetchAsync(String)} runs the blocking fetch on a shared pool of a bounded
+ * number of daemon threads.
+ */
 public class SimpleHttpClient implements HttpClient {
 
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30);
+    private static final int DEFAULT_MAX_RESPONSE_SIZE = 32 * 1024 * 1024;
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_INITIAL_BUFFER_SIZE = BUFFER_SIZE * 16;
+
+    //~ Instance fields
+    // ================================================================================================
+    private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+    private Duration readTimeout = DEFAULT_READ_TIMEOUT;
+    private int maxResponseSize = DEFAULT_MAX_RESPONSE_SIZE;
+
+    // ~ Methods
+    // ========================================================================================================
+
     @Override
     public String fetch(String url) {
+        return new String(fetchBytes(url), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> fetchAsync(String url, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> fetchBytes(url), executor);
+    }
+
+    /**
+     * Fetches the resource as bytes
+     *
+     * @param url url
+     * @return response body
+     */
+    public byte[] fetchBytes(String url) {
         try {
             URL fetchUrl = new URL(url);
             HttpURLConnection urlConnection = (HttpURLConnection) fetchUrl.openConnection();
             urlConnection.setRequestMethod("GET");
+            urlConnection.setConnectTimeout((int) connectTimeout.toMillis());
+            urlConnection.setReadTimeout((int) readTimeout.toMillis());
             urlConnection.connect();
 
             int status = urlConnection.getResponseCode();
 
             if (status == HttpURLConnection.HTTP_OK) {
-                InputStream inputStream = urlConnection.getInputStream();
-                BufferedInputStream bis = new BufferedInputStream(inputStream);
-                ByteArrayOutputStream buf = new ByteArrayOutputStream();
-                int result = bis.read();
-                while (result != -1) {
-                    buf.write((byte) result);
-                    result = bis.read();
+                try (InputStream inputStream = urlConnection.getInputStream()) {
+                    return readFully(inputStream, urlConnection.getContentLengthLong(), url, maxResponseSize);
+                }
+            }
+            try (InputStream errorStream = urlConnection.getErrorStream()) {
+                if (errorStream != null && urlConnection.getContentLengthLong() <= BUFFER_SIZE) {
+                    drain(errorStream); // drained so that the connection can be reused
                 }
-                return buf.toString("UTF-8");
             }
             throw new MDSException("failed to fetch " + url);
         } catch (IOException e) {
             throw new MDSException("failed to fetch " + url, e);
         }
     }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        AssertUtil.notNull(connectTimeout, "connectTimeout must not be null");
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+        AssertUtil.notNull(readTimeout, "readTimeout must not be null");
+        this.readTimeout = readTimeout;
+    }
+
+    public int getMaxResponseSize() {
+        return maxResponseSize;
+    }
+
+    /**
+     * Sets the maximum size of a response body in bytes
+     *
+     * @param maxResponseSize maximum response size
+     */
+    public void setMaxResponseSize(int maxResponseSize) {
+        AssertUtil.isTrue(maxResponseSize > 0, "maxResponseSize must be positive");
+        this.maxResponseSize = maxResponseSize;
+    }
+
+    /**
+     * Reads the response body, which must not exceed the limit
+     */
+    static byte[] readFully(InputStream inputStream, long contentLength, String url, int limit) throws IOException {
+        if (contentLength > limit) {
+            throw new MDSException("response body of " + url + " exceeds " + limit + " bytes");
+        }
+        int initialSize = contentLength > 0 ? (int) Math.min(contentLength, MAX_INITIAL_BUFFER_SIZE) : BUFFER_SIZE;
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(initialSize);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int length;
+        while ((length = inputStream.read(buffer)) != -1) {
+            if (outputStream.size() + length > limit) {
+                throw new MDSException("response body of " + url + " exceeds " + limit + " bytes");
+            }
+            outputStream.write(buffer, 0, length);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static void drain(InputStream inputStream) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long remaining = BUFFER_SIZE;
+        int length;
+        while (remaining > 0 && (length = inputStream.read(buffer)) != -1) {
+            remaining -= length;
+        }
+    }
 }
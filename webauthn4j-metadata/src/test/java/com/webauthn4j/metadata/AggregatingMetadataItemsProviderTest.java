@@ -60,4 +60,40 @@ class AggregatingMetadataItemsProviderTest {
         AggregatingMetadataItemsProvider<MetadataItem> target = new AggregatingMetadataItemsProvider<>(Arrays.asList(providerA, providerB));
         assertThat(target.provide()).containsOnlyKeys(new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812"));
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void provide_reflects_in_place_changes_test() {
+        AAGUID aaguidA = new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812");
+        AAGUID aaguidB = new AAGUID("d075c221-6a37-4c61-80c7-11254460d5bb");
+        MetadataItemsProvider<MetadataItem> providerA = mock(MetadataItemsProvider.class);
+        Map<AAGUID, Set<MetadataItem>> mapA = new HashMap<>();
+        mapA.put(aaguidA, new HashSet<>());
+        when(providerA.provide()).thenReturn(mapA);
+
+        AggregatingMetadataItemsProvider<MetadataItem> target = new AggregatingMetadataItemsProvider<>(Collections.singletonList(providerA));
+        Map<AAGUID, Set<MetadataItem>> result = target.provide();
+        assertThat(result).containsOnlyKeys(aaguidA);
+        result.clear();
+
+        mapA.put(aaguidB, new HashSet<>());
+        assertThat(target.provide()).containsOnlyKeys(aaguidA, aaguidB);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void provide_merges_duplicate_aaguid_test() {
+        AAGUID aaguid = new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812");
+        MetadataItem itemA = mock(MetadataItem.class);
+        MetadataItem itemB = mock(MetadataItem.class);
+
+        MetadataItemsProvider<MetadataItem> providerA = mock(MetadataItemsProvider.class);
+        when(providerA.provide()).thenReturn(Collections.singletonMap(aaguid, Collections.singleton(itemA)));
+        MetadataItemsProvider<MetadataItem> providerB = mock(MetadataItemsProvider.class);
+        when(providerB.provide()).thenReturn(Collections.singletonMap(aaguid, Collections.singleton(itemB)));
+
+        AggregatingMetadataItemsProvider<MetadataItem> target = new AggregatingMetadataItemsProvider<>(Arrays.asList(providerA, providerB));
+        assertThat(target.provide()).containsOnlyKeys(aaguid);
+        assertThat(target.provide().get(aaguid)).containsExactlyInAnyOrder(itemA, itemB);
+    }
+}
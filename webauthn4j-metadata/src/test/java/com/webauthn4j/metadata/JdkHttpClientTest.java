@@ -0,0 +1,112 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.webauthn4j.metadata.exception.MDSException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class JdkHttpClientTest {
+
+    private HttpServer server;
+    private String baseUrl;
+    private JdkHttpClient target;
+
+    @BeforeEach
+    void setup() throws Exception {
+        assumeTrue(JdkHttpClient.isAvailable());
+        target = new JdkHttpClient();
+        byte[] largeBody = new byte[100_000];
+        Arrays.fill(largeBody, (byte) 'a');
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/text", exchange -> respond(exchange, 200, "あtest".getBytes(StandardCharsets.UTF_8)));
+        server.createContext("/large", exchange -> respond(exchange, 200, largeBody));
+        server.createContext("/missing", exchange -> respond(exchange, 404, "not found".getBytes(StandardCharsets.UTF_8)));
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void fetch_test() {
+        assertThat(target.fetch(baseUrl + "/text")).isEqualTo("あtest");
+        assertThrows(MDSException.class,
+                () -> target.fetch(baseUrl + "/missing")
+        );
+    }
+
+    @Test
+    void fetchAsync_test() throws Exception {
+        CompletableFuture<byte[]> text = target.fetchAsync(baseUrl + "/text");
+        CompletableFuture<byte[]> large = target.fetchAsync(baseUrl + "/large");
+        assertThat(new String(text.get(10, TimeUnit.SECONDS), StandardCharsets.UTF_8)).isEqualTo("あtest");
+        assertThat(large.get(10, TimeUnit.SECONDS)).hasSize(100_000);
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> target.fetchAsync(baseUrl + "/missing").get(10, TimeUnit.SECONDS)
+        );
+        assertThat(exception.getCause()).isInstanceOf(MDSException.class);
+    }
+
+    @Test
+    void fetchAsync_exceeding_maxResponseSize_test() {
+        target.setMaxResponseSize(99_999);
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> target.fetchAsync(baseUrl + "/large").get(10, TimeUnit.SECONDS)
+        );
+        assertThat(exception.getCause()).isInstanceOf(MDSException.class);
+    }
+
+    @Test
+    void fetchAsync_with_connection_failure_test() throws Exception {
+        server.stop(0);
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> target.fetchAsync(baseUrl + "/text").get(10, TimeUnit.SECONDS)
+        );
+        assertThat(exception.getCause()).isInstanceOf(MDSException.class);
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.metadata.data.MetadataItem;
+import com.webauthn4j.response.attestation.authenticator.AAGUID;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MetadataItemsResolverImplTest {
+
+    private AAGUID aaguid = new AAGUID("df495bdc-223a-429d-9f0e-ebfa29155812");
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void resolve_test() {
+        MetadataItem commonItem = mock(MetadataItem.class);
+        MetadataItem item = mock(MetadataItem.class);
+        Map<AAGUID, Set<MetadataItem>> map = new HashMap<>();
+        map.put(AAGUID.NULL, Collections.singleton(commonItem));
+        map.put(aaguid, Collections.singleton(item));
+        MetadataItemsProvider<MetadataItem> provider = mock(MetadataItemsProvider.class);
+        when(provider.provide()).thenReturn(map);
+        MetadataItemsResolverImpl<MetadataItem> target = new MetadataItemsResolverImpl<>(provider);
+
+        Set<MetadataItem> metadataItems = target.resolve(aaguid);
+        assertThat(metadataItems).containsExactlyInAnyOrder(commonItem, item);
+        assertThat(target.resolve(AAGUID.ZERO)).containsExactly(commonItem);
+
+        when(provider.provide()).thenReturn(Collections.singletonMap(aaguid, Collections.singleton(item)));
+        assertThat(target.resolve(aaguid)).containsExactly(item);
+        assertThat(target.resolve(AAGUID.ZERO)).isEmpty();
+    }
+
+    @Test
+    void resolve_reflects_in_place_changes_test() {
+        MetadataItem commonItem = mock(MetadataItem.class);
+        MetadataItem item = mock(MetadataItem.class);
+        Map<AAGUID, Set<MetadataItem>> map = new HashMap<>();
+        map.put(AAGUID.NULL, new HashSet<>(Collections.singleton(commonItem)));
+        MetadataItemsResolverImpl<MetadataItem> target = new MetadataItemsResolverImpl<>(() -> map);
+
+        Set<MetadataItem> metadataItems = target.resolve(aaguid);
+        assertThat(metadataItems).containsExactly(commonItem);
+        metadataItems.add(item);
+
+        map.put(aaguid, Collections.singleton(item));
+        map.get(AAGUID.NULL).clear();
+        assertThat(target.resolve(aaguid)).containsExactly(item);
+        assertThat(target.resolve(AAGUID.ZERO)).isEmpty();
+    }
+
+    @Test
+    void resolve_ignores_null_key_test() {
+        MetadataItem commonItem = mock(MetadataItem.class);
+        MetadataItem nullKeyItem = mock(MetadataItem.class);
+        Map<AAGUID, Set<MetadataItem>> map = new HashMap<>();
+        map.put(AAGUID.NULL, Collections.singleton(commonItem));
+        map.put(null, Collections.singleton(nullKeyItem));
+        MetadataItemsResolverImpl<MetadataItem> target = new MetadataItemsResolverImpl<>(() -> map);
+
+        assertThat(target.resolve(aaguid)).containsExactly(commonItem);
+    }
+}
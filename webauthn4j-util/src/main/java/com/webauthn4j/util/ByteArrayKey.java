@@ -0,0 +1,68 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import java.util.Arrays;
+
+/**
+ * Map key which compares a byte array by its content, with the hash code computed once
+ */
+public final class ByteArrayKey {
+
+    private final byte[] value;
+    private final int hash;
+
+    private ByteArrayKey(byte[] value) {
+        this.value = value;
+        this.hash = Arrays.hashCode(value);
+    }
+
+    /**
+     * Creates a key holding a copy of the specified array
+     *
+     * @param value byte array
+     * @return key
+     */
+    public static ByteArrayKey copyOf(byte[] value) {
+        AssertUtil.notNull(value, "value must not be null");
+        return new ByteArrayKey(value.clone());
+    }
+
+    /**
+     * Creates a key holding the specified array, which the caller must not modify afterwards
+     *
+     * @param value byte array
+     * @return key
+     */
+    public static ByteArrayKey wrap(byte[] value) {
+        AssertUtil.notNull(value, "value must not be null");
+        return new ByteArrayKey(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ByteArrayKey that = (ByteArrayKey) o;
+        return hash == that.hash && Arrays.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
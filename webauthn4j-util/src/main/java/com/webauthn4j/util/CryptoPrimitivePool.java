@@ -0,0 +1,146 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A per-thread pool of JCA {@link MessageDigest} and {@link Signature} instances keyed by JCA algorithm name.
+ * <p>
+ * {@code getInstance} goes through the provider lookup on every call, which is costly on the verification hot path.
+ * Instances are handed out as {@link Lease}s: a borrowed instance is removed from the pool until the lease is closed,
+ * so nested borrows on the same thread always get distinct instances. Leases must be closed on the borrowing thread,
+ * typically by try-with-resources, and the instance must not be used after that.
+ * Pooling can be disabled for FIPS providers that forbid instance reuse, either by {@link #setEnabled(boolean)} or
+ * by setting the {@code com.webauthn4j.util.CryptoPrimitivePool.enabled} system property to {@code false}.
+ */
+public class CryptoPrimitivePool {
+
+    private static final String ENABLED_PROPERTY = "com.webauthn4j.util.CryptoPrimitivePool.enabled";
+    private static final int MAX_IDLE_INSTANCES_PER_ALGORITHM = 4;
+
+    private static volatile boolean enabled = Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+
+    private static final ThreadLocal<Map<String, Deque<MessageDigest>>> messageDigests = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Deque<Signature>>> signatures = ThreadLocal.withInitial(HashMap::new);
+
+    private CryptoPrimitivePool() {
+    }
+
+    /**
+     * Borrows a reset {@link MessageDigest} from the pool of the current thread
+     *
+     * @param algorithm            JCA algorithm name
+     * @param messageDigestFactory factory used when the pool is disabled or has no idle instance for the algorithm
+     * @return lease of the message digest, which returns it to the pool on close
+     */
+    public static Lease<MessageDigest> borrowMessageDigest(String algorithm, Function<String, MessageDigest> messageDigestFactory) {
+        return borrow(messageDigests, algorithm, messageDigestFactory, MessageDigest::reset);
+    }
+
+    /**
+     * Borrows a {@link Signature} from the pool of the current thread.
+     * Callers must initialize it by {@code initVerify} or {@code initSign}, which discards any previous state.
+     *
+     * @param algorithm        JCA algorithm name
+     * @param signatureFactory factory used when the pool is disabled or has no idle instance for the algorithm
+     * @return lease of the signature, which returns it to the pool on close
+     */
+    public static Lease<Signature> borrowSignature(String algorithm, Function<String, Signature> signatureFactory) {
+        return borrow(signatures, algorithm, signatureFactory, signature -> {
+        });
+    }
+
+    private static <T> Lease<T> borrow(ThreadLocal<Map<String, Deque<T>>> pool, String algorithm, Function<String, T> factory, Consumer<T> reset) {
+        if (!enabled) {
+            return new Lease<>(factory.apply(algorithm), null);
+        }
+        Deque<T> idleInstances = pool.get().computeIfAbsent(algorithm, key -> new ArrayDeque<>());
+        T instance = idleInstances.pollFirst();
+        if (instance == null) {
+            instance = factory.apply(algorithm);
+        }
+        return new Lease<>(instance, released -> {
+            reset.accept(released);
+            Deque<T> current = pool.get().computeIfAbsent(algorithm, key -> new ArrayDeque<>());
+            if (current.size() < MAX_IDLE_INSTANCES_PER_ALGORITHM) {
+                current.offerFirst(released);
+            }
+        });
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        CryptoPrimitivePool.enabled = enabled;
+    }
+
+    /**
+     * Discards idle instances pooled for the current thread
+     */
+    public static void clear() {
+        messageDigests.remove();
+        signatures.remove();
+    }
+
+    /**
+     * An instance borrowed from {@link CryptoPrimitivePool}, which is exclusively owned by the borrower until closed
+     *
+     * @param <T> type of the pooled instance
+     */
+    public static final class Lease<T> implements AutoCloseable {
+
+        private final T instance;
+        private final Consumer<T> releaser;
+        private boolean closed = false;
+
+        private Lease(T instance, Consumer<T> releaser) {
+            this.instance = instance;
+            this.releaser = releaser;
+        }
+
+        public T get() {
+            if (closed) {
+                throw new IllegalStateException("lease is already closed");
+            }
+            return instance;
+        }
+
+        /**
+         * Returns the instance to the pool. Closing a lease more than once has no effect.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (releaser != null) {
+                releaser.accept(instance);
+            }
+        }
+    }
+}
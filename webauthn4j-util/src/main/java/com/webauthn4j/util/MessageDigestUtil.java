@@ -30,16 +30,7 @@ public class MessageDigestUtil {
 
     public static MessageDigest createMessageDigest(String hashAlgorithm) {
         try {
-            switch (hashAlgorithm) {
-                case "S256":
-                    return MessageDigest.getInstance("SHA-256");
-                case "S384":
-                    return MessageDigest.getInstance("SHA-384");
-                case "S512":
-                    return MessageDigest.getInstance("SHA-512");
-                default:
-                    return MessageDigest.getInstance(hashAlgorithm);
-            }
+            return MessageDigest.getInstance(resolveAlgorithmName(hashAlgorithm));
         } catch (NoSuchAlgorithmException e) {
             throw new IllegalArgumentException(e);
         }
@@ -49,4 +40,49 @@ public class MessageDigestUtil {
         return createMessageDigest("SHA-256");
     }
 
+    /**
+     * Borrows a reset {@link MessageDigest} from {@link CryptoPrimitivePool}.
+     * The lease must be closed on the borrowing thread, and the instance must not be used after that.
+     *
+     * @param hashAlgorithm hash algorithm
+     * @return lease of the message digest
+     */
+    public static CryptoPrimitivePool.Lease<MessageDigest> borrowMessageDigest(String hashAlgorithm) {
+        return CryptoPrimitivePool.borrowMessageDigest(resolveAlgorithmName(hashAlgorithm), MessageDigestUtil::createMessageDigest);
+    }
+
+    public static CryptoPrimitivePool.Lease<MessageDigest> borrowSHA256() {
+        return borrowMessageDigest("SHA-256");
+    }
+
+    /**
+     * Computes the digest of the data with a {@link MessageDigest} borrowed from {@link CryptoPrimitivePool}
+     *
+     * @param hashAlgorithm hash algorithm
+     * @param data          data to digest
+     * @return digest
+     */
+    public static byte[] digest(String hashAlgorithm, byte[] data) {
+        try (CryptoPrimitivePool.Lease<MessageDigest> lease = borrowMessageDigest(hashAlgorithm)) {
+            return lease.get().digest(data);
+        }
+    }
+
+    public static byte[] digestSHA256(byte[] data) {
+        return digest("SHA-256", data);
+    }
+
+    private static String resolveAlgorithmName(String hashAlgorithm) {
+        switch (hashAlgorithm) {
+            case "S256":
+                return "SHA-256";
+            case "S384":
+                return "SHA-384";
+            case "S512":
+                return "SHA-512";
+            default:
+                return hashAlgorithm;
+        }
+    }
+
 }
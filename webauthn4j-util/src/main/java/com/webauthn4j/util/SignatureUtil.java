@@ -24,18 +24,41 @@ import java.security.Signature;
  */
 public class SignatureUtil {
 
-    private static Signature ES256 = createSignature("SHA256withECDSA");
-    private static Signature RS256 = createSignature("SHA256withRSA");
-
     private SignatureUtil() {
     }
 
+    /**
+     * Returns a new SHA256withRSA {@link Signature}
+     *
+     * @return signature
+     */
     public static Signature getRS256() {
-        return RS256;
+        return createSignature("SHA256withRSA");
     }
 
+    /**
+     * Returns a new SHA256withECDSA {@link Signature}
+     *
+     * @return signature
+     */
     public static Signature getES256() {
-        return ES256;
+        return createSignature("SHA256withECDSA");
+    }
+
+    /**
+     * Borrows a {@link Signature} from {@link CryptoPrimitivePool}.
+     * The instance must be initialized right before use, and must not be used after the lease is closed.
+     *
+     * @param algorithm JCA signature algorithm name
+     * @return lease of the signature
+     */
+    public static CryptoPrimitivePool.Lease<Signature> borrowSignature(String algorithm) {
+        AssertUtil.notNull(algorithm, "algorithm is required; it must not be null");
+        return CryptoPrimitivePool.borrowSignature(algorithm, SignatureUtil::createSignature);
+    }
+
+    public static CryptoPrimitivePool.Lease<Signature> borrowES256() {
+        return borrowSignature("SHA256withECDSA");
     }
 
     public static Signature createSignature(String algorithm) {
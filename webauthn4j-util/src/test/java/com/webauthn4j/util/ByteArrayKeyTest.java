@@ -0,0 +1,43 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteArrayKeyTest {
+
+    @Test
+    void equals_hashCode_test() {
+        ByteArrayKey key = ByteArrayKey.wrap(new byte[]{0x01, 0x02});
+        ByteArrayKey sameKey = ByteArrayKey.copyOf(new byte[]{0x01, 0x02});
+        ByteArrayKey otherKey = ByteArrayKey.wrap(new byte[]{0x01, 0x03});
+
+        assertThat(key).isEqualTo(sameKey).hasSameHashCodeAs(sameKey);
+        assertThat(key).isNotEqualTo(otherKey);
+    }
+
+    @Test
+    void copyOf_test() {
+        byte[] value = new byte[]{0x01, 0x02};
+        ByteArrayKey key = ByteArrayKey.copyOf(value);
+        value[0] = 0x03;
+
+        assertThat(key).isEqualTo(ByteArrayKey.wrap(new byte[]{0x01, 0x02}));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CryptoPrimitivePoolTest {
+
+    @AfterEach
+    void tearDown() {
+        CryptoPrimitivePool.setEnabled(true);
+        CryptoPrimitivePool.clear();
+    }
+
+    @Test
+    void borrowMessageDigest_test_reuses_released_instance() {
+        MessageDigest messageDigest;
+        try (CryptoPrimitivePool.Lease<MessageDigest> lease = MessageDigestUtil.borrowSHA256()) {
+            messageDigest = lease.get();
+            messageDigest.update(new byte[]{0x01});
+        }
+        try (CryptoPrimitivePool.Lease<MessageDigest> lease = MessageDigestUtil.borrowSHA256()) {
+            assertThat(lease.get()).isSameAs(messageDigest);
+            assertThat(lease.get().digest()).isEqualTo(MessageDigestUtil.createSHA256().digest());
+        }
+    }
+
+    @Test
+    void borrowMessageDigest_test_nested_borrows_do_not_alias() {
+        byte[] data = new byte[]{0x01, 0x02};
+        try (CryptoPrimitivePool.Lease<MessageDigest> outer = MessageDigestUtil.borrowSHA256()) {
+            outer.get().update(new byte[]{0x03});
+            try (CryptoPrimitivePool.Lease<MessageDigest> inner = MessageDigestUtil.borrowSHA256()) {
+                assertThat(inner.get()).isNotSameAs(outer.get());
+                inner.get().update(data);
+            }
+            assertThat(MessageDigestUtil.digestSHA256(data)).isEqualTo(MessageDigestUtil.createSHA256().digest(data));
+            assertThat(outer.get().digest()).isEqualTo(MessageDigestUtil.createSHA256().digest(new byte[]{0x03}));
+        }
+    }
+
+    @Test
+    void borrowMessageDigest_test_with_other_thread() throws Exception {
+        MessageDigest messageDigest;
+        try (CryptoPrimitivePool.Lease<MessageDigest> lease = MessageDigestUtil.borrowSHA256()) {
+            messageDigest = lease.get();
+        }
+        MessageDigest otherThreadMessageDigest = CompletableFuture.supplyAsync(() -> {
+            try (CryptoPrimitivePool.Lease<MessageDigest> lease = MessageDigestUtil.borrowSHA256()) {
+                return lease.get();
+            }
+        }).get();
+
+        assertThat(otherThreadMessageDigest).isNotSameAs(messageDigest);
+    }
+
+    @Test
+    void borrowMessageDigest_test_after_clear() {
+        MessageDigest messageDigest;
+        try (CryptoPrimitivePool.Lease<MessageDigest> lease = MessageDigestUtil.borrowSHA256()) {
+            messageDigest = lease.get();
+        }
+        CryptoPrimitivePool.clear();
+
+        try (CryptoPrimitivePool.Lease<MessageDigest> lease = MessageDigestUtil.borrowSHA256()) {
+            assertThat(lease.get()).isNotSameAs(messageDigest);
+        }
+    }
+
+    @Test
+    void lease_get_test_after_close() {
+        CryptoPrimitivePool.Lease<MessageDigest> lease = MessageDigestUtil.borrowSHA256();
+        lease.close();
+        lease.close();
+
+        assertThrows(IllegalStateException.class, lease::get);
+    }
+
+    @Test
+    void borrowSignature_test_when_disabled() {
+        CryptoPrimitivePool.setEnabled(false);
+
+        assertThat(CryptoPrimitivePool.isEnabled()).isFalse();
+        Signature signature;
+        try (CryptoPrimitivePool.Lease<Signature> lease = SignatureUtil.borrowES256()) {
+            signature = lease.get();
+        }
+        try (CryptoPrimitivePool.Lease<Signature> lease = SignatureUtil.borrowES256()) {
+            assertThat(lease.get()).isNotSameAs(signature);
+        }
+    }
+}
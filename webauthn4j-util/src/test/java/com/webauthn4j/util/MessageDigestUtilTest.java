@@ -51,4 +51,26 @@ class MessageDigestUtilTest {
                 () -> MessageDigestUtil.createMessageDigest("wrong-arg")
         );
     }
+
+    @Test
+    void borrowMessageDigest_test() {
+        try (CryptoPrimitivePool.Lease<MessageDigest> lease = MessageDigestUtil.borrowMessageDigest("S256")) {
+            MessageDigest s256 = lease.get();
+            s256.update(new byte[]{0x01});
+
+            assertAll(
+                    () -> assertThat(s256.getAlgorithm()).isEqualTo("SHA-256"),
+                    () -> assertThat(s256.digest()).isEqualTo(MessageDigestUtil.createSHA256().digest(new byte[]{0x01}))
+            );
+        }
+    }
+
+    @Test
+    void digest_test() {
+        byte[] data = new byte[]{0x01, 0x02};
+        assertAll(
+                () -> assertThat(MessageDigestUtil.digest("S384", data)).isEqualTo(MessageDigestUtil.createMessageDigest("SHA-384").digest(data)),
+                () -> assertThat(MessageDigestUtil.digestSHA256(data)).isEqualTo(MessageDigestUtil.createSHA256().digest(data))
+        );
+    }
 }
@@ -18,6 +18,8 @@ package com.webauthn4j.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.security.Signature;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -43,4 +45,24 @@ class SignatureUtilTest {
         );
         assertThat(t).hasMessageContaining("dummyAlg Signature not available");
     }
+
+    @Test
+    void borrowSignature_test() {
+        try (CryptoPrimitivePool.Lease<Signature> lease = SignatureUtil.borrowES256()) {
+            assertThat(lease.get().getAlgorithm()).isEqualTo("SHA256withECDSA");
+        }
+    }
+
+    @Test
+    void borrowSignature_test_with_null() {
+        Throwable t = assertThrows(IllegalArgumentException.class,
+                () -> SignatureUtil.borrowSignature(null)
+        );
+        assertThat(t).hasMessage("algorithm is required; it must not be null");
+    }
+
+    @Test
+    void getES256_test() {
+        assertThat(SignatureUtil.getES256()).isNotSameAs(SignatureUtil.getES256());
+    }
 }